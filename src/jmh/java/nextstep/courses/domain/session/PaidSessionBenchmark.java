@@ -0,0 +1,58 @@
+package nextstep.courses.domain.session;
+
+import nextstep.payments.domain.Payment;
+import nextstep.users.domain.NsUser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PaidSessionBenchmark {
+    private static final long FEE = 200_000L;
+
+    @Param({"100", "1000", "10000"})
+    private int registrations;
+
+    private SessionDate sessionDate;
+    private List<Registration> candidates;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime start = LocalDateTime.of(2024, 10, 10, 10, 0);
+        this.sessionDate = new SessionDate(start, start.plusDays(30));
+        this.candidates = new ArrayList<>(registrations);
+        for (long id = 1; id <= registrations; id++) {
+            NsUser user = new NsUser(id, "user" + id, "password", "name", "user" + id + "@slipp.net");
+            candidates.add(Registration.of(1L, user, new Payment("payment" + id, 1L, id, FEE)));
+        }
+    }
+
+    // 매 호출마다 빈 강의에 전원을 등록해 수강생 수에 따른 등록 비용을 측정한다
+    @Benchmark
+    public PaidSession register() {
+        PaidSession session = new PaidSession(1L, "TDD", new ArrayList<>(), sessionDate, new SessionCapacity(registrations), new Money(FEE));
+        session.open();
+        for (Registration registration : candidates) {
+            session.register(registration);
+        }
+        return session;
+    }
+}
@@ -0,0 +1,61 @@
+package nextstep.courses.domain.session;
+
+import nextstep.courses.domain.lecturer.Lecturer;
+import nextstep.courses.domain.student.Student;
+import nextstep.courses.domain.student.StudentStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SessionBenchmark {
+    private static final Lecturer LECTURER = new Lecturer(1L);
+
+    @Param({"1000", "10000"})
+    private int students;
+
+    private Session session;
+    private List<Student> applicants;
+
+    @Setup
+    public void setUp() {
+        List<Student> roster = new ArrayList<>(students);
+        this.applicants = new ArrayList<>(students / 2);
+        for (long id = 1; id <= students; id++) {
+            roster.add(new Student(id, 200_000L, StudentStatus.APPLIED));
+            if (id % 2 == 0) {
+                applicants.add(new Student(id, 200_000L, StudentStatus.APPLIED));
+            }
+        }
+
+        LocalDateTime start = LocalDateTime.of(2024, 10, 10, 10, 0);
+        this.session = new PaidSession(1L, "TDD", new SessionDate(start, start.plusDays(30)), new ArrayList<>(),
+                SessionType.PAID, SessionStatus.init(), roster, LECTURER, new SessionCapacity(students), new Money(200_000L));
+        this.session.open();
+    }
+
+    // 승인은 멱등이므로 같은 강의에 반복 호출해도 명단 크기가 유지된다
+    @Benchmark
+    public Session acceptStudents() {
+        session.acceptStudents(LECTURER, applicants);
+        return session;
+    }
+}
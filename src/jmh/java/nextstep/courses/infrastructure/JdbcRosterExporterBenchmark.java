@@ -0,0 +1,88 @@
+package nextstep.courses.infrastructure;
+
+import nextstep.courses.domain.student.RosterFormat;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.TimeUnit;
+
+// 목표는 분당 100만 행이므로 rows=1000000 의 평균 시간이 60000ms 보다 충분히 작아야 한다
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class JdbcRosterExporterBenchmark {
+    @Param({"1000000"})
+    private int rows;
+
+    @Param({"CSV", "JSON"})
+    private RosterFormat format;
+
+    @Param({"false", "true"})
+    private boolean gzip;
+
+    private EmbeddedDatabase database;
+    private JdbcRosterExporter rosterExporter;
+
+    @Setup
+    public void setUp() {
+        this.database = new EmbeddedDatabaseBuilder()
+                .generateUniqueName(true)
+                .setType(EmbeddedDatabaseType.H2)
+                .addScript("schema.sql")
+                .build();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.update("insert into ns_user (user_id, password, name, email, created_at) " +
+                "select 'user' || x, 'password', 'name' || x, 'user' || x || '@slipp.net', current_timestamp() from system_range(1, ?)", rows);
+        jdbcTemplate.update("insert into student (ns_user_id, session_id, amount, status) " +
+                "select x, 1, 200000, 'APPLIED' from system_range(1, ?)", rows);
+        this.rosterExporter = new JdbcRosterExporter(new NamedParameterJdbcTemplate(database), 1000);
+    }
+
+    @TearDown
+    public void tearDown() {
+        database.shutdown();
+    }
+
+    @Benchmark
+    public long exportBySessionId() {
+        return rosterExporter.exportBySessionId(1L, null, format, gzip, new DiscardingChannel());
+    }
+
+    private static class DiscardingChannel implements WritableByteChannel {
+        @Override
+        public int write(ByteBuffer src) {
+            int remaining = src.remaining();
+            src.position(src.limit());
+            return remaining;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
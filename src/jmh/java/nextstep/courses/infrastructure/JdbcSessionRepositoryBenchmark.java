@@ -0,0 +1,63 @@
+package nextstep.courses.infrastructure;
+
+import nextstep.courses.domain.session.Session;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 행 매핑 할당량은 ./gradlew jmh 의 gc 프로파일러 결과(gc.alloc.rate.norm)로 비교한다
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JdbcSessionRepositoryBenchmark {
+    @Param({"10000", "50000"})
+    private int sessions;
+
+    private EmbeddedDatabase database;
+    private JdbcSessionRepository sessionRepository;
+
+    @Setup
+    public void setUp() {
+        this.database = new EmbeddedDatabaseBuilder()
+                .generateUniqueName(true)
+                .setType(EmbeddedDatabaseType.H2)
+                .addScript("schema.sql")
+                .build();
+        new JdbcTemplate(database).update("insert into session (course_id, title, start_at, end_at, session_type, session_progress_status, session_recruit_status, capacity, price, created_at) " +
+                "select 1, 'session' || x, current_timestamp(), dateadd('DAY', 30, current_timestamp()), " +
+                "case when mod(x, 2) = 0 then 'PAID' else 'FREE' end, 'ON_GOING', 'RECRUITMENT', " +
+                "case when mod(x, 2) = 0 then 100 end, case when mod(x, 2) = 0 then 200000 end, current_timestamp() " +
+                "from system_range(1, ?)", sessions);
+        this.sessionRepository = new JdbcSessionRepository(new NamedParameterJdbcTemplate(database));
+    }
+
+    @TearDown
+    public void tearDown() {
+        database.shutdown();
+    }
+
+    @Benchmark
+    public List<Session> findAllByCourseId() {
+        return sessionRepository.findAllByCourseId(1L);
+    }
+}
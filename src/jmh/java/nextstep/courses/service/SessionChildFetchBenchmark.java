@@ -0,0 +1,102 @@
+package nextstep.courses.service;
+
+import nextstep.courses.domain.session.Session;
+import nextstep.courses.infrastructure.JdbcImageRepository;
+import nextstep.courses.infrastructure.JdbcLecturerRepository;
+import nextstep.courses.infrastructure.JdbcSessionRepository;
+import nextstep.courses.infrastructure.JdbcStudentRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// 캐시를 거치지 않는 단건 조회 지연 시간을 자식 조회 순차/병렬 방식으로 비교한다
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class SessionChildFetchBenchmark {
+    @Param({"sequential", "parallel"})
+    private String mode;
+
+    @Param({"1000"})
+    private int sessions;
+
+    @Param({"20", "500"})
+    private int studentsPerSession;
+
+    private EmbeddedDatabase database;
+    private ExecutorService executor;
+    private SessionService sessionService;
+
+    @Setup
+    public void setUp() {
+        this.database = new EmbeddedDatabaseBuilder()
+                .generateUniqueName(true)
+                .setType(EmbeddedDatabaseType.H2)
+                .addScript("schema.sql")
+                .build();
+        seed(new JdbcTemplate(database));
+
+        this.executor = "parallel".equals(mode) ? Executors.newFixedThreadPool(3) : null;
+        NamedParameterJdbcTemplate jdbcTemplate = new NamedParameterJdbcTemplate(database);
+        this.sessionService = new SessionService(
+                new JdbcSessionRepository(jdbcTemplate),
+                new JdbcImageRepository(jdbcTemplate),
+                new JdbcStudentRepository(jdbcTemplate),
+                new JdbcLecturerRepository(jdbcTemplate),
+                // ttl 0 이므로 매번 저장소에서 다시 읽는다
+                new SessionCache(1, 0),
+                event -> {
+                },
+                executor
+        );
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update("insert into course (title, creator_id, created_at) values ('course', 1, current_timestamp())");
+        jdbcTemplate.update("insert into session (course_id, title, start_at, end_at, session_type, session_progress_status, session_recruit_status, capacity, price, created_at) " +
+                "select 1, 'session' || x, current_timestamp(), dateadd('DAY', 30, current_timestamp()), 'PAID', 'ON_GOING', 'RECRUITMENT', " +
+                "?, 200000, current_timestamp() from system_range(1, ?)", studentsPerSession, sessions);
+        jdbcTemplate.update("insert into image (session_id, size, image_type, width, height, created_at) " +
+                "select x, 1024, 'GIF', 300, 200, current_timestamp() from system_range(1, ?)", sessions);
+        jdbcTemplate.update("insert into lecturer (ns_user_id, session_id) " +
+                "select mod(x - 1, 100) + 1, x from system_range(1, ?)", sessions);
+        jdbcTemplate.update("insert into student (ns_user_id, session_id, amount, status) " +
+                "select x, mod(x - 1, ?) + 1, 200000, 'APPLIED' from system_range(1, ?)", sessions, sessions * studentsPerSession);
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+        database.shutdown();
+    }
+
+    @Benchmark
+    public Session findById() {
+        long sessionId = ThreadLocalRandom.current().nextLong(1, sessions + 1);
+        return sessionService.findById(sessionId);
+    }
+}
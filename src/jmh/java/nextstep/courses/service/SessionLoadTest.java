@@ -0,0 +1,144 @@
+package nextstep.courses.service;
+
+import nextstep.courses.infrastructure.JdbcImageRepository;
+import nextstep.courses.infrastructure.JdbcLecturerRepository;
+import nextstep.courses.infrastructure.JdbcSessionRepository;
+import nextstep.courses.infrastructure.JdbcStudentRepository;
+import nextstep.metrics.LatencyHistogram;
+import nextstep.payments.domain.Payment;
+import nextstep.users.domain.NsUser;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 동시 사용자 수만큼 요청 체인을 띄워 findById/register 혼합 부하의 처리량과 지연 시간을 측정한다
+// ./gradlew loadTest -Pusers=10000 -PopsPerUser=20 -PregisterPercent=10 -PvirtualThreads=true -Pthreads=10
+public class SessionLoadTest {
+    private static final int SESSIONS = 1000;
+    private static final long FEE = 200_000L;
+
+    private final AsyncSessionService asyncSessionService;
+    private final int opsPerUser;
+    private final int registerPercent;
+    private final AtomicLong nextUserId = new AtomicLong(1_000_000L);
+    private final LatencyHistogram findById = new LatencyHistogram();
+    private final LatencyHistogram register = new LatencyHistogram();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    private SessionLoadTest(AsyncSessionService asyncSessionService, int opsPerUser, int registerPercent) {
+        this.asyncSessionService = asyncSessionService;
+        this.opsPerUser = opsPerUser;
+        this.registerPercent = registerPercent;
+    }
+
+    public static void main(String[] args) {
+        int users = Integer.parseInt(System.getProperty("users", "10000"));
+        int opsPerUser = Integer.parseInt(System.getProperty("opsPerUser", "20"));
+        int registerPercent = Integer.parseInt(System.getProperty("registerPercent", "10"));
+        boolean virtualThreads = Boolean.parseBoolean(System.getProperty("virtualThreads", "true"));
+        int threads = Integer.parseInt(System.getProperty("threads", "10"));
+
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .generateUniqueName(true)
+                .setType(EmbeddedDatabaseType.H2)
+                .addScript("schema.sql")
+                .build();
+        seed(new JdbcTemplate(database));
+
+        NamedParameterJdbcTemplate jdbcTemplate = new NamedParameterJdbcTemplate(database);
+        SessionService sessionService = new SessionService(
+                new JdbcSessionRepository(jdbcTemplate),
+                new JdbcImageRepository(jdbcTemplate),
+                new JdbcStudentRepository(jdbcTemplate),
+                new JdbcLecturerRepository(jdbcTemplate),
+                new SessionCache(SESSIONS, 60),
+                event -> {
+                },
+                null
+        );
+        AsyncSessionService asyncSessionService = new AsyncSessionService(sessionService, virtualThreads, threads, users);
+        try {
+            new SessionLoadTest(asyncSessionService, opsPerUser, registerPercent).run(users);
+        } finally {
+            asyncSessionService.shutdown();
+            database.shutdown();
+        }
+    }
+
+    // 홀수 id 강의는 무료, 짝수 id 강의는 정원이 넉넉한 유료 강의로 만든다
+    private static void seed(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update("insert into course (title, creator_id, created_at) values ('course', 1, current_timestamp())");
+        jdbcTemplate.update("insert into session (course_id, title, start_at, end_at, session_type, session_progress_status, session_recruit_status, capacity, price, created_at) " +
+                "select 1, 'session' || x, current_timestamp(), dateadd('DAY', 30, current_timestamp()), " +
+                "case when mod(x, 2) = 0 then 'PAID' else 'FREE' end, 'ON_GOING', 'RECRUITMENT', " +
+                "case when mod(x, 2) = 0 then 1000000 end, case when mod(x, 2) = 0 then ? end, current_timestamp() " +
+                "from system_range(1, ?)", FEE, SESSIONS);
+        jdbcTemplate.update("insert into lecturer (ns_user_id, session_id) select 1, x from system_range(1, ?)", SESSIONS);
+    }
+
+    private void run(int users) {
+        long startedAt = System.nanoTime();
+        CompletableFuture<?>[] chains = new CompletableFuture<?>[users];
+        for (int i = 0; i < users; i++) {
+            chains[i] = next(opsPerUser);
+        }
+        CompletableFuture.allOf(chains).join();
+        long elapsedNanos = System.nanoTime() - startedAt;
+
+        long operations = findById.getCount() + register.getCount() + rejected.get() + failed.get();
+        System.out.printf("mode=%s users=%d operations=%d elapsedMs=%d throughput=%.1f/s rejected=%d failed=%d%n",
+                asyncSessionService.isVirtualThreads() ? "virtual" : "platform", users, operations,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos), operations * 1e9 / elapsedNanos, rejected.get(), failed.get());
+        System.out.println("findById " + findById);
+        System.out.println("register " + register);
+    }
+
+    // 사용자마다 이전 요청이 끝나야 다음 요청을 보내므로 동시 요청 수는 사용자 수와 같다
+    private CompletableFuture<Void> next(int remaining) {
+        if (remaining == 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return request().thenCompose(ignored -> next(remaining - 1));
+    }
+
+    private CompletableFuture<Void> request() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long sessionId = random.nextLong(1, SESSIONS + 1);
+        long startedAt = System.nanoTime();
+        if (random.nextInt(100) >= registerPercent) {
+            return record(asyncSessionService.findById(sessionId), findById, startedAt);
+        }
+
+        long nsUserId = nextUserId.getAndIncrement();
+        NsUser nsUser = new NsUser(nsUserId, "user" + nsUserId, "password", "name", "user" + nsUserId + "@slipp.net");
+        Payment payment = new Payment("payment" + nsUserId, sessionId, nsUserId, FEE);
+        return record(asyncSessionService.register(sessionId, nsUser, payment), register, startedAt);
+    }
+
+    private CompletableFuture<Void> record(CompletableFuture<?> future, LatencyHistogram histogram, long startedAt) {
+        return future.handle((result, e) -> {
+            if (e == null) {
+                histogram.record(System.nanoTime() - startedAt);
+            } else if (unwrap(e) instanceof RejectedExecutionException) {
+                rejected.incrementAndGet();
+            } else {
+                failed.incrementAndGet();
+            }
+            return null;
+        });
+    }
+
+    private static Throwable unwrap(Throwable e) {
+        return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+    }
+}
@@ -0,0 +1,98 @@
+package nextstep.courses.service;
+
+import nextstep.courses.domain.session.Session;
+import nextstep.courses.infrastructure.JdbcImageRepository;
+import nextstep.courses.infrastructure.JdbcLecturerRepository;
+import nextstep.courses.infrastructure.JdbcSessionRepository;
+import nextstep.courses.infrastructure.JdbcStudentRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class SessionServiceBenchmark {
+    @Param({"1000"})
+    private int courses;
+
+    @Param({"50000"})
+    private int sessions;
+
+    @Param({"1000000"})
+    private int students;
+
+    private EmbeddedDatabase database;
+    private SessionService sessionService;
+
+    @Setup
+    public void setUp() {
+        this.database = new EmbeddedDatabaseBuilder()
+                .generateUniqueName(true)
+                .setType(EmbeddedDatabaseType.H2)
+                .addScript("schema.sql")
+                .build();
+        seed(new JdbcTemplate(database));
+
+        NamedParameterJdbcTemplate jdbcTemplate = new NamedParameterJdbcTemplate(database);
+        this.sessionService = new SessionService(
+                new JdbcSessionRepository(jdbcTemplate),
+                new JdbcImageRepository(jdbcTemplate),
+                new JdbcStudentRepository(jdbcTemplate),
+                new JdbcLecturerRepository(jdbcTemplate),
+                new SessionCache(1000, 60),
+                event -> {
+                },
+                null
+        );
+    }
+
+    // 짝수 id 강의는 유료, 홀수 id 강의는 무료로 만들고 수강생은 강의마다 고르게 나눈다
+    private void seed(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update("insert into course (title, creator_id, created_at) " +
+                "select 'course' || x, 1, current_timestamp() from system_range(1, ?)", courses);
+        jdbcTemplate.update("insert into session (course_id, title, start_at, end_at, session_type, session_progress_status, session_recruit_status, capacity, price, created_at) " +
+                "select mod(x - 1, ?) + 1, 'session' || x, current_timestamp(), dateadd('DAY', 30, current_timestamp()), " +
+                "case when mod(x, 2) = 0 then 'PAID' else 'FREE' end, 'ON_GOING', 'RECRUITMENT', " +
+                "case when mod(x, 2) = 0 then ? end, case when mod(x, 2) = 0 then 200000 end, current_timestamp() " +
+                "from system_range(1, ?)", courses, students, sessions);
+        jdbcTemplate.update("insert into image (session_id, size, image_type, width, height, created_at) " +
+                "select x, 1024, 'GIF', 300, 200, current_timestamp() from system_range(1, ?)", sessions);
+        jdbcTemplate.update("insert into lecturer (ns_user_id, session_id) " +
+                "select mod(x - 1, 100) + 1, x from system_range(1, ?)", sessions);
+        jdbcTemplate.update("insert into student (ns_user_id, session_id, amount, status) " +
+                "select x, mod(x - 1, ?) + 1, 200000, 'APPLIED' from system_range(1, ?)", sessions, students);
+    }
+
+    @TearDown
+    public void tearDown() {
+        database.shutdown();
+    }
+
+    @Benchmark
+    public List<Session> findAllByCourseId() {
+        long courseId = ThreadLocalRandom.current().nextLong(1, courses + 1);
+        return sessionService.findAllByCourseId(courseId);
+    }
+}
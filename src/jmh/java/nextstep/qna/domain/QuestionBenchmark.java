@@ -0,0 +1,48 @@
+package nextstep.qna.domain;
+
+import nextstep.qna.CannotDeleteException;
+import nextstep.users.domain.NsUser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QuestionBenchmark {
+    private static final NsUser WRITER = new NsUser(1L, "javajigi", "password", "name", "javajigi@slipp.net");
+
+    @Param({"10", "1000", "100000"})
+    private int answers;
+
+    private Question question;
+
+    // delete()는 질문과 답변을 삭제 상태로 바꾸므로 호출마다 새로 만든다. 그렇지 않으면 첫 호출 이후에는 이미 삭제된 질문을 측정한다
+    @Setup(Level.Invocation)
+    public void setUp() {
+        this.question = new Question(1L, WRITER, "title", "contents");
+        for (long id = 1; id <= answers; id++) {
+            question.addAnswer(new Answer(id, WRITER, question, "answer contents " + id));
+        }
+    }
+
+    @Benchmark
+    public List<DeleteHistory> delete() throws CannotDeleteException {
+        return question.delete(WRITER);
+    }
+}
@@ -0,0 +1,84 @@
+package nextstep.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.IMetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import nextstep.metrics.MeteredDataSource;
+import nextstep.metrics.PoolMetrics;
+import nextstep.metrics.QueryMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.util.concurrent.TimeUnit;
+
+@Configuration(proxyBeanMethods = false)
+public class DataAccessConfig {
+    @Bean
+    public PoolMetrics poolMetrics() {
+        return new PoolMetrics();
+    }
+
+    @Bean
+    public QueryMetrics queryMetrics(@Value("${lms.jdbc.query-metrics.max-queries:1000}") int maxQueries) {
+        return new QueryMetrics(maxQueries);
+    }
+
+    // BeanPostProcessor는 다른 빈보다 먼저 만들어지므로 static으로 등록하고 메트릭 빈은 사용할 때 찾는다
+    @Bean
+    public static BeanPostProcessor dataSourceMetricsPostProcessor(ObjectProvider<PoolMetrics> poolMetrics,
+                                                                   ObjectProvider<QueryMetrics> queryMetrics,
+                                                                   @Value("${lms.jdbc.query-metrics.enabled:true}") boolean queryMetricsEnabled,
+                                                                   @Value("${lms.jdbc.slow-query-threshold-ms:0}") long slowQueryThresholdMillis) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource && ((HikariDataSource) bean).getMetricsTrackerFactory() == null) {
+                    ((HikariDataSource) bean).setMetricsTrackerFactory(new PoolMetricsTrackerFactory(poolMetrics.getObject()));
+                }
+                return bean;
+            }
+
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (queryMetricsEnabled && bean instanceof DataSource && !(bean instanceof MeteredDataSource)) {
+                    return new MeteredDataSource((DataSource) bean, queryMetrics.getObject(), slowQueryThresholdMillis);
+                }
+                return bean;
+            }
+        };
+    }
+
+    private static class PoolMetricsTrackerFactory implements IMetricsTrackerFactory {
+        private final PoolMetrics poolMetrics;
+
+        PoolMetricsTrackerFactory(PoolMetrics poolMetrics) {
+            this.poolMetrics = poolMetrics;
+        }
+
+        @Override
+        public IMetricsTracker create(String poolName, PoolStats poolStats) {
+            poolMetrics.bind(poolStats::getActiveConnections, poolStats::getIdleConnections, poolStats::getPendingThreads);
+            return new IMetricsTracker() {
+                @Override
+                public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+                    poolMetrics.recordWait(elapsedAcquiredNanos);
+                }
+
+                @Override
+                public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+                    poolMetrics.recordUsage(TimeUnit.MILLISECONDS.toNanos(elapsedBorrowedMillis));
+                }
+
+                @Override
+                public void recordConnectionTimeout() {
+                    poolMetrics.recordTimeout();
+                }
+            };
+        }
+    }
+}
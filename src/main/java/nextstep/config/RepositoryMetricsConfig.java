@@ -0,0 +1,66 @@
+package nextstep.config;
+
+import nextstep.metrics.RepositoryMetrics;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.ClassUtils;
+
+import java.util.Arrays;
+
+@Configuration(proxyBeanMethods = false)
+public class RepositoryMetricsConfig {
+    private static final String INSTRUMENTED_PACKAGE = "nextstep.";
+
+    @Bean
+    public RepositoryMetrics repositoryMetrics() {
+        return new RepositoryMetrics();
+    }
+
+    // 다른 프록시가 모두 적용된 뒤 가장 바깥에서 감싸도록 가장 낮은 우선순위로 둔다
+    @Bean
+    public static BeanPostProcessor repositoryMetricsPostProcessor(ObjectProvider<RepositoryMetrics> repositoryMetrics,
+                                                                   @Value("${lms.metrics.repository.enabled:true}") boolean enabled) {
+        return new RepositoryMetricsPostProcessor(repositoryMetrics, enabled);
+    }
+
+    private static class RepositoryMetricsPostProcessor implements BeanPostProcessor, Ordered {
+        private final ObjectProvider<RepositoryMetrics> repositoryMetrics;
+        private final boolean enabled;
+
+        RepositoryMetricsPostProcessor(ObjectProvider<RepositoryMetrics> repositoryMetrics, boolean enabled) {
+            this.repositoryMetrics = repositoryMetrics;
+            this.enabled = enabled;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!enabled) {
+                return bean;
+            }
+            Class<?> targetClass = AopUtils.getTargetClass(bean);
+            if (!AnnotatedElementUtils.hasAnnotation(targetClass, Repository.class)) {
+                return bean;
+            }
+
+            Class<?>[] interfaces = Arrays.stream(ClassUtils.getAllInterfacesForClass(targetClass))
+                    .filter(type -> type.getName().startsWith(INSTRUMENTED_PACKAGE))
+                    .toArray(Class<?>[]::new);
+            if (interfaces.length == 0) {
+                return bean;
+            }
+            return repositoryMetrics.getObject().instrument(bean, interfaces);
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package nextstep.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration(proxyBeanMethods = false)
+public class SessionExecutionConfig {
+
+    // 강의 한 건을 조회할 때 이미지, 수강생, 강사를 동시에 조회하는 스레드 풀.
+    // 호출 스레드는 커넥션을 쥐지 않고 기다리므로 교착은 없지만, 조회마다 커넥션을 최대 4개까지 쓰므로
+    // threads는 다른 요청이 쓸 커넥션이 남도록 커넥션 풀 크기보다 충분히 작게 잡는다
+    @Bean(name = "sessionChildFetchExecutor", destroyMethod = "shutdown")
+    @ConditionalOnProperty(name = "lms.session.child-fetch.parallel", havingValue = "true")
+    public ExecutorService sessionChildFetchExecutor(@Value("${lms.session.child-fetch.threads:6}") int threads) {
+        AtomicInteger sequence = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "session-child-fetch-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
@@ -0,0 +1,72 @@
+package nextstep.courses.domain;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+public final class EnumCodec<E extends Enum<E>> {
+    private final E[] constants;
+    private final Map<String, E> byName;
+
+    private EnumCodec(Class<E> type) {
+        this.constants = type.getEnumConstants();
+        if (constants.length > Byte.MAX_VALUE) {
+            throw new IllegalArgumentException("Too many constants to encode as byte: " + type.getName());
+        }
+        this.byName = new HashMap<>();
+        for (E constant : constants) {
+            byName.put(constant.name(), constant);
+        }
+    }
+
+    public static <E extends Enum<E>> EnumCodec<E> of(Class<E> type) {
+        return new EnumCodec<>(type);
+    }
+
+    // 대소문자를 구분하지 않으며 알 수 없는 값은 null을 반환한다
+    public E decode(String name) {
+        if (name == null) {
+            return null;
+        }
+        E constant = byName.get(name);
+        if (constant != null) {
+            return constant;
+        }
+        return byName.get(name.toUpperCase(Locale.ROOT));
+    }
+
+    // 이름이 정확히 같을 때만 디코딩하고 알 수 없는 값은 null을 반환한다
+    public E decodeExact(String name) {
+        if (name == null) {
+            return null;
+        }
+        return byName.get(name);
+    }
+
+    // 컬럼이 이름(varchar) 또는 코드(정수) 중 어느 형태로 저장되어 있어도 읽을 수 있다
+    public E decode(Object value) {
+        if (value instanceof Number) {
+            return fromCode(((Number) value).intValue());
+        }
+        if (value == null) {
+            return null;
+        }
+        return decode(value.toString());
+    }
+
+    public String encode(E constant) {
+        return constant == null ? null : constant.name();
+    }
+
+    // 코드는 선언 순서이므로 새 상수는 항상 마지막에 추가해야 한다
+    public byte toCode(E constant) {
+        return (byte) constant.ordinal();
+    }
+
+    public E fromCode(int code) {
+        if (code < 0 || code >= constants.length) {
+            return null;
+        }
+        return constants[code];
+    }
+}
@@ -1,9 +1,12 @@
 package nextstep.courses.domain.course;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface CourseRepository {
     long save(Course course);
 
+    List<Long> saveAll(List<Course> courses);
+
     Optional<Course> findById(Long id);
 }
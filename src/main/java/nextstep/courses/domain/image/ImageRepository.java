@@ -1,6 +1,7 @@
 package nextstep.courses.domain.image;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface ImageRepository {
@@ -8,7 +9,11 @@ public interface ImageRepository {
 
     int[] saveAll(List<Image> images, Long sessionId);
 
+    int[] saveAll(Map<Long, List<Image>> imagesBySessionId);
+
     Optional<Image> findById(long id);
 
     List<Image> findAllBySessionId(long sessionId);
+
+    Map<Long, List<Image>> findAllBySessionIds(List<Long> sessionIds);
 }
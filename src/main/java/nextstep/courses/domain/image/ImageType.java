@@ -1,6 +1,6 @@
 package nextstep.courses.domain.image;
 
-import java.util.Arrays;
+import nextstep.courses.domain.EnumCodec;
 
 public enum ImageType {
     GIF,
@@ -9,10 +9,17 @@ public enum ImageType {
     PNG,
     SVG;
 
+    private static final EnumCodec<ImageType> CODEC = EnumCodec.of(ImageType.class);
+
     public static ImageType of(String name) {
-        return Arrays.stream(values())
-                .filter(it -> it.name().equalsIgnoreCase(name))
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException("Invalid image type: " + name));
+        ImageType type = CODEC.decode(name);
+        if (type == null) {
+            throw new IllegalArgumentException("Invalid image type: " + name);
+        }
+        return type;
+    }
+
+    public static EnumCodec<ImageType> codec() {
+        return CODEC;
     }
 }
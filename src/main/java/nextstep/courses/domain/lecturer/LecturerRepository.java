@@ -1,11 +1,17 @@
 package nextstep.courses.domain.lecturer;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface LecturerRepository {
     int save(Lecturer lecturer, Long sessionId);
 
-    Optional<Lecturer> findByNsUserId(Long userId);
+    int[] saveAll(Map<Long, Lecturer> lecturersBySessionId);
+
+    Optional<Lecturer> findBySessionIdAndNsUserId(Long sessionId, Long userId);
 
     Optional<Lecturer> findBySessionId(Long sessionId);
+
+    Map<Long, Lecturer> findAllBySessionIds(List<Long> sessionIds);
 }
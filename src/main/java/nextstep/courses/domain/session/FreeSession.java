@@ -39,6 +39,12 @@ public class FreeSession extends Session {
         super(id, title, sessionDate, images, sessionType, sessionStatus, students, lecturer);
     }
 
+    @Override
+    public FreeSession copy() {
+        return new FreeSession(getId(), getTitle(), getSessionDate(), copyImages(), getSessionType(), getSessionStatus().copy(),
+                copyStudents(), getLecturer());
+    }
+
     public static FreeSession of(FreeSession session, List<Image> images, List<Student> students, Lecturer lecturer) {
         return new FreeSession(
                 session.getId(),
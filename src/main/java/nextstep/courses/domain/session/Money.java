@@ -1,7 +1,11 @@
 package nextstep.courses.domain.session;
 
 public class Money {
-    private long price;
+    private static final long CACHE_UNIT = 1_000L;
+    private static final int CACHE_SIZE = 1_000;
+    private static final Money[] CACHE = new Money[CACHE_SIZE + 1];
+
+    private final long price;
 
     public Money(long price) {
         if (price <= 0) {
@@ -10,6 +14,20 @@ public class Money {
         this.price = price;
     }
 
+    // 수강료는 대부분 천 원 단위이므로 백만 원까지는 공유한다
+    public static Money of(long price) {
+        if (price <= 0 || price % CACHE_UNIT != 0 || price / CACHE_UNIT > CACHE_SIZE) {
+            return new Money(price);
+        }
+        int index = (int) (price / CACHE_UNIT);
+        Money cached = CACHE[index];
+        if (cached == null) {
+            cached = new Money(price);
+            CACHE[index] = cached;
+        }
+        return cached;
+    }
+
     public long getPrice() {
         return price;
     }
@@ -61,6 +61,12 @@ public class PaidSession extends Session {
         this.fee = fee;
     }
 
+    @Override
+    public PaidSession copy() {
+        return new PaidSession(getId(), getTitle(), getSessionDate(), copyImages(), getSessionType(), getSessionStatus().copy(),
+                copyStudents(), getLecturer(), capacity, fee);
+    }
+
     public static PaidSession of(PaidSession session, List<Image> images, List<Student> students, Lecturer lecturer) {
         return new PaidSession(
                 session.getId(),
@@ -92,11 +98,11 @@ public class PaidSession extends Session {
         if (registration == null) {
             throw new IllegalArgumentException("Registration must not be null");
         }
-        if (!this.fee.equals(new Money(registration.getAmount()))) {
+        if (!this.fee.equals(Money.of(registration.getAmount()))) {
             throw new IllegalArgumentException("amount must be equal to session fee");
         }
 
+        this.capacity.checkCapacity(getSeatCount() + 1);
         addStudent(Student.of(registration));
-        this.capacity.checkCapacity(getStudents().size());
     }
 }
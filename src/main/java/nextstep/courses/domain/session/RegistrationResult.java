@@ -0,0 +1,39 @@
+package nextstep.courses.domain.session;
+
+import nextstep.courses.domain.student.Student;
+
+public class RegistrationResult {
+    private final Registration registration;
+    private final Student student;
+    private final RuntimeException error;
+
+    private RegistrationResult(Registration registration, Student student, RuntimeException error) {
+        this.registration = registration;
+        this.student = student;
+        this.error = error;
+    }
+
+    public static RegistrationResult success(Registration registration, Student student) {
+        return new RegistrationResult(registration, student, null);
+    }
+
+    public static RegistrationResult failure(Registration registration, RuntimeException error) {
+        return new RegistrationResult(registration, null, error);
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+    public Registration getRegistration() {
+        return registration;
+    }
+
+    public Student getStudent() {
+        return student;
+    }
+
+    public RuntimeException getError() {
+        return error;
+    }
+}
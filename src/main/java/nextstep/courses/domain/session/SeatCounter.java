@@ -0,0 +1,38 @@
+package nextstep.courses.domain.session;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class SeatCounter {
+    private final ConcurrentMap<Long, AtomicInteger> seats = new ConcurrentHashMap<>();
+
+    // 강의마다 처음 예약할 때만 taken으로 초기화하고, 이후에는 예약, 롤백, 거절로 커밋 사이에도 값을 이어 간다
+    public boolean tryReserve(Long sessionId, int taken, int capacity, int count) {
+        AtomicInteger counter = seats.computeIfAbsent(sessionId, key -> new AtomicInteger(taken));
+        while (true) {
+            int current = counter.get();
+            if (current + count > capacity) {
+                return false;
+            }
+            if (counter.compareAndSet(current, current + count)) {
+                return true;
+            }
+        }
+    }
+
+    public void release(Long sessionId, int count) {
+        AtomicInteger counter = seats.get(sessionId);
+        if (counter != null) {
+            counter.addAndGet(-count);
+        }
+    }
+
+    public int getTaken(Long sessionId) {
+        AtomicInteger counter = seats.get(sessionId);
+        if (counter == null) {
+            return 0;
+        }
+        return counter.get();
+    }
+}
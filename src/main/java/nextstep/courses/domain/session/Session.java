@@ -5,7 +5,13 @@ import nextstep.courses.domain.lecturer.Lecturer;
 import nextstep.courses.domain.student.Student;
 import nextstep.courses.domain.student.StudentStatus;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 public abstract class Session {
     private Long id;
@@ -14,8 +20,12 @@ public abstract class Session {
     private List<Image> images;
     private SessionType sessionType;
     private SessionStatus sessionStatus;
-    private List<Student> students;
+    private Map<Long, Student> students;
+    private int seatCount;
     private Lecturer lecturer;
+    private boolean readOnly;
+    private final Set<Student> newStudents = new LinkedHashSet<>();
+    private final Set<Student> changedStudents = new LinkedHashSet<>();
 
     public Session(Long id,
                    String title,
@@ -43,10 +53,65 @@ public abstract class Session {
         this.images = images;
         this.sessionType = sessionType;
         this.sessionStatus = sessionStatus;
-        this.students = students;
+        this.students = toIndex(students);
+        this.seatCount = countSeats(this.students);
         this.lecturer = lecturer;
     }
 
+    // 캐시처럼 여러 요청이 함께 보는 Session을 꺼낼 때 쓴다. 바뀔 수 있는 강의 상태와 수강생은 새로 만든다
+    public abstract Session copy();
+
+    // 여러 요청이 같은 인스턴스를 나눠 보도록 상태를 바꾸는 메서드를 막는다. 바꾸려면 copy()로 꺼낸다
+    public Session readOnly() {
+        this.images = images == null ? null : List.copyOf(images);
+        for (Student student : students.values()) {
+            student.readOnly();
+        }
+        this.readOnly = true;
+        return this;
+    }
+
+    private void checkWritable() {
+        if (readOnly) {
+            throw new IllegalStateException("Session is read only");
+        }
+    }
+
+    protected List<Image> copyImages() {
+        return images == null ? null : new ArrayList<>(images);
+    }
+
+    protected List<Student> copyStudents() {
+        List<Student> copies = new ArrayList<>(students.size());
+        for (Student student : students.values()) {
+            copies.add(student.copy());
+        }
+        return copies;
+    }
+
+    private static int countSeats(Map<Long, Student> students) {
+        int seats = 0;
+        for (Student student : students.values()) {
+            if (takesSeat(student)) {
+                seats++;
+            }
+        }
+        return seats;
+    }
+
+    // 거절된 수강생은 좌석을 차지하지 않는다
+    private static boolean takesSeat(Student student) {
+        return student.getStatus() != StudentStatus.REJECTED;
+    }
+
+    private static Map<Long, Student> toIndex(List<Student> students) {
+        Map<Long, Student> index = new LinkedHashMap<>();
+        for (Student student : students) {
+            index.put(student.getNsUserId(), student);
+        }
+        return index;
+    }
+
     public Long getId() {
         return id;
     }
@@ -68,42 +133,92 @@ public abstract class Session {
     }
 
     public List<Student> getStudents() {
-        return students;
+        return new ArrayList<>(students.values());
+    }
+
+    public int getStudentCount() {
+        return students.size();
+    }
+
+    // 등록, 승인, 거절할 때마다 갱신하므로 수강생 수와 관계없이 바로 반환한다
+    public int getSeatCount() {
+        return seatCount;
+    }
+
+    public Optional<Student> findStudent(Long nsUserId) {
+        return Optional.ofNullable(students.get(nsUserId));
     }
 
     public Lecturer getLecturer() {
         return lecturer;
     }
 
+    public List<Student> getNewStudents() {
+        return new ArrayList<>(newStudents);
+    }
+
+    public List<Student> getChangedStudents() {
+        return new ArrayList<>(changedStudents);
+    }
+
+    public void clearStudentChanges() {
+        checkWritable();
+        this.newStudents.clear();
+        this.changedStudents.clear();
+    }
+
     public void addStudent(Student student) {
-        this.students.add(student);
+        checkWritable();
+        if (this.students.containsKey(student.getNsUserId())) {
+            throw new IllegalArgumentException("Student is already registered");
+        }
+        this.students.put(student.getNsUserId(), student);
+        if (takesSeat(student)) {
+            this.seatCount++;
+        }
+        this.newStudents.add(student);
     }
 
     public void assignLecturer(Lecturer lecturer) {
+        checkWritable();
         this.lecturer = lecturer;
     }
 
     public abstract void register(Registration registration);
 
     public void open() {
+        checkWritable();
         this.sessionStatus.openSession();
         this.sessionStatus.startRecruiting();
     }
 
     public void close() {
+        checkWritable();
         this.sessionStatus.endSession();
         this.sessionStatus.finishRecruiting();
     }
 
+    public void checkStudentStatusChangeable(Lecturer lecturer) {
+        checkLecturer(lecturer);
+        checkStatus();
+    }
+
     public void acceptStudents(Lecturer lecturer, List<Student> applicants) {
+        checkWritable();
         checkStudents();
         checkLecturer(lecturer);
         checkStatus();
         checkAcceptApplicants(applicants);
 
-        this.students.stream()
-                .filter(applicants::contains)
-                .forEach(Student::accept);
+        for (Student applicant : applicants) {
+            Student student = this.students.get(applicant.getNsUserId());
+            if (student != null) {
+                boolean tookSeat = takesSeat(student);
+                student.accept();
+                seatChanged(tookSeat, student);
+                markChanged(student);
+            }
+        }
     }
 
     private void checkAcceptApplicants(List<Student> applicants) {
@@ -114,14 +229,35 @@ public abstract class Session {
     }
 
     public void rejectStudents(Lecturer lecturer, List<Student> applicants) {
+        checkWritable();
         checkStudents();
         checkLecturer(lecturer);
         checkStatus();
         checkRejectApplicants(applicants);
 
-        this.students.stream()
-                .filter(applicants::contains)
-                .forEach(Student::reject);
+        for (Student applicant : applicants) {
+            Student student = this.students.get(applicant.getNsUserId());
+            if (student != null) {
+                boolean tookSeat = takesSeat(student);
+                student.reject();
+                seatChanged(tookSeat, student);
+                markChanged(student);
+            }
+        }
+    }
+
+    private void seatChanged(boolean tookSeat, Student student) {
+        if (tookSeat && !takesSeat(student)) {
+            this.seatCount--;
+        } else if (!tookSeat && takesSeat(student)) {
+            this.seatCount++;
+        }
+    }
+
+    private void markChanged(Student student) {
+        if (!this.newStudents.contains(student)) {
+            this.changedStudents.add(student);
+        }
     }
 
     private void checkRejectApplicants(List<Student> applicants) {
@@ -157,6 +293,9 @@ public abstract class Session {
     }
 
     public SessionStatus getSessionStatus() {
+        if (readOnly) {
+            return sessionStatus.copy();
+        }
         return sessionStatus;
     }
 
@@ -1,7 +1,10 @@
 package nextstep.courses.domain.session;
 
 public class SessionCapacity {
-    private int capacity;
+    private static final int CACHE_MAX = 1000;
+    private static final SessionCapacity[] CACHE = new SessionCapacity[CACHE_MAX + 1];
+
+    private final int capacity;
 
     public SessionCapacity(int capacity) {
         if (capacity <= 0) {
@@ -10,6 +13,19 @@ public class SessionCapacity {
         this.capacity = capacity;
     }
 
+    // 정원은 불변이므로 자주 쓰이는 값은 공유한다
+    public static SessionCapacity of(int capacity) {
+        if (capacity <= 0 || capacity > CACHE_MAX) {
+            return new SessionCapacity(capacity);
+        }
+        SessionCapacity cached = CACHE[capacity];
+        if (cached == null) {
+            cached = new SessionCapacity(capacity);
+            CACHE[capacity] = cached;
+        }
+        return cached;
+    }
+
     public int getCapacity() {
         return capacity;
     }
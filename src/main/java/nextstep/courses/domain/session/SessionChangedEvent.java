@@ -0,0 +1,23 @@
+package nextstep.courses.domain.session;
+
+public class SessionChangedEvent {
+    private final Long sessionId;
+    private final Long courseId;
+
+    public SessionChangedEvent(Long sessionId) {
+        this(sessionId, null);
+    }
+
+    public SessionChangedEvent(Long sessionId, Long courseId) {
+        this.sessionId = sessionId;
+        this.courseId = courseId;
+    }
+
+    public Long getSessionId() {
+        return sessionId;
+    }
+
+    public Long getCourseId() {
+        return courseId;
+    }
+}
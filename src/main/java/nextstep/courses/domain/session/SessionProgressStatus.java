@@ -1,12 +1,14 @@
 package nextstep.courses.domain.session;
 
-import java.util.Arrays;
+import nextstep.courses.domain.EnumCodec;
 
 public enum SessionProgressStatus {
     PREPARING("준비중"),
     ON_GOING("진행중"),
     END("종료");
 
+    private static final EnumCodec<SessionProgressStatus> CODEC = EnumCodec.of(SessionProgressStatus.class);
+
     private final String value;
 
     SessionProgressStatus(String value) {
@@ -18,9 +20,10 @@ public enum SessionProgressStatus {
     }
 
     public static SessionProgressStatus of(String name) {
-        return Arrays.stream(values())
-                .filter(it -> it.name().equalsIgnoreCase(name))
-                .findFirst()
-                .orElse(null);
+        return CODEC.decode(name);
+    }
+
+    public static EnumCodec<SessionProgressStatus> codec() {
+        return CODEC;
     }
 }
@@ -1,11 +1,13 @@
 package nextstep.courses.domain.session;
 
-import java.util.Arrays;
+import nextstep.courses.domain.EnumCodec;
 
 public enum SessionRecruitStatus {
     NON_RECRUITMENT("비모집중"),
     RECRUITMENT("모집중");
 
+    private static final EnumCodec<SessionRecruitStatus> CODEC = EnumCodec.of(SessionRecruitStatus.class);
+
     private final String value;
 
     SessionRecruitStatus(String value) {
@@ -17,9 +19,10 @@ public enum SessionRecruitStatus {
     }
 
     public static SessionRecruitStatus of(String name) {
-        return Arrays.stream(values())
-                .filter(it -> it.name().equalsIgnoreCase(name))
-                .findFirst()
-                .orElse(null);
+        return CODEC.decode(name);
+    }
+
+    public static EnumCodec<SessionRecruitStatus> codec() {
+        return CODEC;
     }
 }
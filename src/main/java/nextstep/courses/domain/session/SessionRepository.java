@@ -2,11 +2,28 @@ package nextstep.courses.domain.session;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 public interface SessionRepository {
     long save(Session session, Long courseId);
 
+    // courseIds는 sessions와 같은 순서로 각 강의가 속한 과정을 가리킨다
+    List<Long> saveAll(List<Session> sessions, List<Long> courseIds);
+
     Optional<Session> findById(Long id);
 
     List<Session> findAllByCourseId(Long courseId);
+
+    // 커넥션을 점유하므로 반드시 닫아야 한다 (try-with-resources)
+    Stream<Session> streamAllByCourseId(Long courseId, int fetchSize);
+
+    void forEachByCourseId(Long courseId, int fetchSize, Consumer<Session> consumer);
+
+    boolean reserveSeats(Long sessionId, int count);
+
+    void releaseSeats(Long sessionId, int count);
+
+    // seats_taken을 거절되지 않은 수강생 수로 다시 맞춘다
+    int reconcileSeats();
 }
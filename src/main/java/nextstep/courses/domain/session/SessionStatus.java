@@ -12,6 +12,10 @@ public class SessionStatus {
         this.sessionRecruitStatus = sessionRecruitStatus;
     }
 
+    public SessionStatus copy() {
+        return new SessionStatus(sessionProgressStatus, sessionRecruitStatus);
+    }
+
     public static SessionStatus init() {
         return new SessionStatus(SessionProgressStatus.PREPARING, SessionRecruitStatus.NON_RECRUITMENT);
     }
@@ -1,15 +1,22 @@
 package nextstep.courses.domain.session;
 
-import java.util.Arrays;
+import nextstep.courses.domain.EnumCodec;
 
 public enum SessionType {
     FREE,
     PAID;
 
+    private static final EnumCodec<SessionType> CODEC = EnumCodec.of(SessionType.class);
+
     public static SessionType of(String name) {
-        return Arrays.stream(values())
-                .filter(it -> it.name().equals(name))
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException("Invalid session type: " + name));
+        SessionType type = CODEC.decodeExact(name);
+        if (type == null) {
+            throw new IllegalArgumentException("Invalid session type: " + name);
+        }
+        return type;
+    }
+
+    public static EnumCodec<SessionType> codec() {
+        return CODEC;
     }
 }
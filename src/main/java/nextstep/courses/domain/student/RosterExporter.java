@@ -0,0 +1,10 @@
+package nextstep.courses.domain.student;
+
+import java.nio.channels.WritableByteChannel;
+
+public interface RosterExporter {
+    // status가 null이면 모든 수강생을 내보내며, 내보낸 행 수를 반환한다
+    long exportBySessionId(Long sessionId, StudentStatus status, RosterFormat format, boolean gzip, WritableByteChannel channel);
+
+    long exportByCourseId(Long courseId, StudentStatus status, RosterFormat format, boolean gzip, WritableByteChannel channel);
+}
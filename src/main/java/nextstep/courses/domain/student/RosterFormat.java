@@ -0,0 +1,6 @@
+package nextstep.courses.domain.student;
+
+public enum RosterFormat {
+    CSV,
+    NDJSON
+}
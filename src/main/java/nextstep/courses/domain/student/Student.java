@@ -9,6 +9,7 @@ public class Student {
     private Long nsUserId;
     private Long amount;
     private StudentStatus status;
+    private boolean readOnly;
 
     public Student(Long amount, Long nsUserId) {
         this(nsUserId, amount, StudentStatus.APPLIED);
@@ -23,6 +24,15 @@ public class Student {
         this.status = status;
     }
 
+    public Student copy() {
+        return new Student(nsUserId, amount, status);
+    }
+
+    public Student readOnly() {
+        this.readOnly = true;
+        return this;
+    }
+
     public static Student of(Registration registration) {
         return new Student(registration.getAmount(), registration.getNsUserId());
     }
@@ -46,13 +56,21 @@ public class Student {
     }
 
     public void accept() {
+        checkWritable();
         this.status = StudentStatus.ACCEPTED;
     }
 
     public void reject() {
+        checkWritable();
         this.status = StudentStatus.REJECTED;
     }
 
+    private void checkWritable() {
+        if (readOnly) {
+            throw new IllegalStateException("Student is read only");
+        }
+    }
+
     @Override
     public final boolean equals(Object o) {
         if (this == o) {
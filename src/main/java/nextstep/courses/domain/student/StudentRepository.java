@@ -1,7 +1,10 @@
 package nextstep.courses.domain.student;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 public interface StudentRepository {
     int save(Student student, Long sessionId);
@@ -12,5 +15,18 @@ public interface StudentRepository {
 
     List<Student> findAllBySessionId(Long sessionId);
 
+    // 커넥션을 점유하므로 반드시 닫아야 한다 (try-with-resources)
+    Stream<Student> streamAllBySessionId(Long sessionId, int fetchSize);
+
+    void forEachBySessionId(Long sessionId, int fetchSize, Consumer<Student> consumer);
+
+    Map<Long, List<Student>> findAllBySessionIds(List<Long> sessionIds);
+
     Student updateStatus(Student student, Long sessionId);
+
+    int[] updateStatusAll(List<Student> students, Long sessionId);
+
+    Map<Long, StudentStatus> findStatusesByNsUserIds(Long sessionId, List<Long> nsUserIds);
+
+    int updateStatusByNsUserIds(Long sessionId, List<Long> nsUserIds, StudentStatus from, StudentStatus to);
 }
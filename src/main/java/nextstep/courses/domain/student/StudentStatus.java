@@ -1,16 +1,19 @@
 package nextstep.courses.domain.student;
 
-import java.util.Arrays;
+import nextstep.courses.domain.EnumCodec;
 
 public enum StudentStatus {
     APPLIED,
     ACCEPTED,
     REJECTED;
 
+    private static final EnumCodec<StudentStatus> CODEC = EnumCodec.of(StudentStatus.class);
+
     public static StudentStatus of(String name) {
-        return Arrays.stream(values())
-                .filter(it -> it.name().equalsIgnoreCase(name))
-                .findFirst()
-                .orElse(null);
+        return CODEC.decode(name);
+    }
+
+    public static EnumCodec<StudentStatus> codec() {
+        return CODEC;
     }
 }
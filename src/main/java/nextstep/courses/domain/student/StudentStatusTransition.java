@@ -0,0 +1,67 @@
+package nextstep.courses.domain.student;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public class StudentStatusTransition {
+    private final StudentStatus status;
+    private final Map<Long, Outcome> outcomes;
+
+    private StudentStatusTransition(StudentStatus status, Map<Long, Outcome> outcomes) {
+        this.status = status;
+        this.outcomes = outcomes;
+    }
+
+    public static StudentStatusTransition of(StudentStatus status, List<Long> nsUserIds, Map<Long, StudentStatus> currentStatuses) {
+        if (status == null || status == StudentStatus.APPLIED) {
+            throw new IllegalArgumentException("status must be ACCEPTED or REJECTED");
+        }
+        Map<Long, Outcome> outcomes = new LinkedHashMap<>();
+        for (Long nsUserId : nsUserIds) {
+            outcomes.put(nsUserId, Outcome.of(currentStatuses.get(nsUserId), status));
+        }
+        return new StudentStatusTransition(status, outcomes);
+    }
+
+    public StudentStatus getStatus() {
+        return status;
+    }
+
+    public List<Long> getUpdatableNsUserIds() {
+        return outcomes.entrySet().stream()
+                .filter(it -> it.getValue() == Outcome.UPDATED)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+    }
+
+    public Outcome getOutcome(Long nsUserId) {
+        return outcomes.get(nsUserId);
+    }
+
+    public Map<Long, Outcome> getOutcomes() {
+        return Collections.unmodifiableMap(outcomes);
+    }
+
+    public enum Outcome {
+        UPDATED,
+        UNCHANGED,
+        CONFLICT,
+        NOT_FOUND;
+
+        private static Outcome of(StudentStatus current, StudentStatus status) {
+            if (current == null) {
+                return NOT_FOUND;
+            }
+            if (current == status) {
+                return UNCHANGED;
+            }
+            if (current == StudentStatus.APPLIED) {
+                return UPDATED;
+            }
+            return CONFLICT;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package nextstep.courses.infrastructure;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcOperations;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+final class BatchInserts {
+    private BatchInserts() {
+    }
+
+    // 한 번의 배치로 삽입하고 생성된 키를 입력 순서대로 돌려준다
+    static List<Long> insertReturningKeys(JdbcOperations jdbcOperations, String sql, BatchPreparedStatementSetter setter) {
+        int size = setter.getBatchSize();
+        if (size == 0) {
+            return new ArrayList<>();
+        }
+
+        return jdbcOperations.execute((ConnectionCallback<List<Long>>) con -> {
+            try (PreparedStatement ps = con.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+                for (int i = 0; i < size; i++) {
+                    setter.setValues(ps, i);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+
+                List<Long> keys = new ArrayList<>(size);
+                try (ResultSet rs = ps.getGeneratedKeys()) {
+                    while (rs.next()) {
+                        keys.add(rs.getLong(1));
+                    }
+                }
+                if (keys.size() != size) {
+                    throw new IllegalStateException("Expected " + size + " generated keys but got " + keys.size());
+                }
+                return keys;
+            }
+        });
+    }
+}
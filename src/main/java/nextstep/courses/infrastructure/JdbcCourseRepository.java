@@ -2,6 +2,7 @@ package nextstep.courses.infrastructure;
 
 import nextstep.courses.domain.course.Course;
 import nextstep.courses.domain.course.CourseRepository;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcOperations;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
@@ -9,13 +10,18 @@ import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.stereotype.Repository;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
 @Repository
 public class JdbcCourseRepository implements CourseRepository {
+    static final String FIND_BY_ID = "select id, \"order\", title, creator_id, created_at, updated_at from course where id = :id";
+
     private static final RowMapper<Course> COURSE_ROW_MAPPER = (rs, rowNum) -> new Course(
             rs.getLong(1),
             rs.getLong(2),
@@ -50,13 +56,31 @@ public class JdbcCourseRepository implements CourseRepository {
     }
 
     @Override
-    public Optional<Course> findById(Long id) {
-        String sql = "select id, \"order\", title, creator_id, created_at, updated_at from course where id = :id";
+    public List<Long> saveAll(List<Course> courses) {
+        String sql = "insert into course (title, \"order\", creator_id, created_at) values(?, ?, ?, ?)";
+        return BatchInserts.insertReturningKeys(jdbcTemplate, sql, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Course course = courses.get(i);
+                ps.setString(1, course.getTitle());
+                ps.setObject(2, course.getOrder());
+                ps.setObject(3, course.getCreatorId());
+                ps.setObject(4, course.getCreatedAt());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return courses.size();
+            }
+        });
+    }
 
+    @Override
+    public Optional<Course> findById(Long id) {
         MapSqlParameterSource param = new MapSqlParameterSource();
         param.addValue("id", id);
 
-        return Optional.ofNullable(namedParameterJdbcTemplate.queryForObject(sql, param, COURSE_ROW_MAPPER));
+        return Optional.ofNullable(namedParameterJdbcTemplate.queryForObject(FIND_BY_ID, param, COURSE_ROW_MAPPER));
     }
 
     private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
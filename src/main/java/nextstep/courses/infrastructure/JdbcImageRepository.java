@@ -1,17 +1,25 @@
 package nextstep.courses.infrastructure;
 
 import nextstep.courses.domain.image.*;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Repository
 public class JdbcImageRepository implements ImageRepository {
+    static final String FIND_BY_ID = "select id, size, image_type, width, height from image where id = :id";
+    static final String FIND_ALL_BY_SESSION_ID = "select id, size, image_type, width, height from image where session_id = :sessionId";
+    static final String FIND_ALL_BY_SESSION_IDS = "select id, size, image_type, width, height, session_id from image where session_id in (:sessionIds)";
+
     private static final RowMapper<Image> IMAGE_ROW_MAPPER = (rs, rowNum) -> {
         long imageId = rs.getLong(1);
         long size = rs.getLong(2);
@@ -38,7 +46,7 @@ public class JdbcImageRepository implements ImageRepository {
         MapSqlParameterSource param = new MapSqlParameterSource();
         param.addValue("sessionId", sessionId);
         param.addValue("size", image.getImageSize().getSize());
-        param.addValue("imageType", image.getImageType().name());
+        param.addValue("imageType", ImageType.codec().encode(image.getImageType()));
         param.addValue("width", image.getImagePixel().getWidth());
         param.addValue("height", image.getImagePixel().getHeight());
         param.addValue("createdAt", LocalDateTime.now());
@@ -53,7 +61,7 @@ public class JdbcImageRepository implements ImageRepository {
                     MapSqlParameterSource param = new MapSqlParameterSource();
                     param.addValue("sessionId", sessionId);
                     param.addValue("size", image.getImageSize().getSize());
-                    param.addValue("imageType", image.getImageType().name());
+                    param.addValue("imageType", ImageType.codec().encode(image.getImageType()));
                     param.addValue("width", image.getImagePixel().getWidth());
                     param.addValue("height", image.getImagePixel().getHeight());
                     param.addValue("createdAt", LocalDateTime.now());
@@ -62,19 +70,49 @@ public class JdbcImageRepository implements ImageRepository {
         return namedParameterJdbcTemplate.batchUpdate(sql, batch);
     }
 
+    @Override
+    public int[] saveAll(Map<Long, List<Image>> imagesBySessionId) {
+        String sql = "insert into image (session_id, size, image_type, width, height, created_at) values(:sessionId, :size, :imageType, :width, :height, :createdAt)";
+        LocalDateTime now = LocalDateTime.now();
+        List<MapSqlParameterSource> batch = new ArrayList<>();
+        imagesBySessionId.forEach((sessionId, images) -> images.forEach(image -> {
+            MapSqlParameterSource param = new MapSqlParameterSource();
+            param.addValue("sessionId", sessionId);
+            param.addValue("size", image.getImageSize().getSize());
+            param.addValue("imageType", ImageType.codec().encode(image.getImageType()));
+            param.addValue("width", image.getImagePixel().getWidth());
+            param.addValue("height", image.getImagePixel().getHeight());
+            param.addValue("createdAt", now);
+            batch.add(param);
+        }));
+        return namedParameterJdbcTemplate.batchUpdate(sql, batch.toArray(MapSqlParameterSource[]::new));
+    }
+
     @Override
     public Optional<Image> findById(long id) {
-        String sql = "select id, size, image_type, width, height from image where id = :id";
         MapSqlParameterSource param = new MapSqlParameterSource();
         param.addValue("id", id);
-        return Optional.ofNullable(namedParameterJdbcTemplate.queryForObject(sql, param, IMAGE_ROW_MAPPER));
+        return Optional.ofNullable(namedParameterJdbcTemplate.queryForObject(FIND_BY_ID, param, IMAGE_ROW_MAPPER));
     }
 
     @Override
     public List<Image> findAllBySessionId(long sessionId) {
-        String sql = "select id, size, image_type, width, height from image where session_id = :sessionId";
         MapSqlParameterSource param = new MapSqlParameterSource();
         param.addValue("sessionId", sessionId);
-        return namedParameterJdbcTemplate.query(sql, param, IMAGE_ROW_MAPPER);
+        return namedParameterJdbcTemplate.query(FIND_ALL_BY_SESSION_ID, param, IMAGE_ROW_MAPPER);
+    }
+
+    @Override
+    public Map<Long, List<Image>> findAllBySessionIds(List<Long> sessionIds) {
+        Map<Long, List<Image>> images = new HashMap<>();
+        if (sessionIds.isEmpty()) {
+            return images;
+        }
+        MapSqlParameterSource param = new MapSqlParameterSource();
+        param.addValue("sessionIds", sessionIds);
+        namedParameterJdbcTemplate.query(FIND_ALL_BY_SESSION_IDS, param, (RowCallbackHandler) rs -> images
+                .computeIfAbsent(rs.getLong(6), key -> new ArrayList<>())
+                .add(IMAGE_ROW_MAPPER.mapRow(rs, rs.getRow())));
+        return images;
     }
 }
@@ -2,15 +2,23 @@ package nextstep.courses.infrastructure;
 
 import nextstep.courses.domain.lecturer.Lecturer;
 import nextstep.courses.domain.lecturer.LecturerRepository;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
 import org.springframework.stereotype.Repository;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Repository
 public class JdbcLecturerRepository implements LecturerRepository {
+    static final String FIND_BY_SESSION_ID_AND_NS_USER_ID = "select ns_user_id from lecturer where session_id = :sessionId and ns_user_id = :nsUserId";
+    static final String FIND_BY_SESSION_ID = "select ns_user_id from lecturer where session_id = :sessionId";
+    static final String FIND_ALL_BY_SESSION_IDS = "select ns_user_id, session_id from lecturer where session_id in (:sessionIds)";
+
     private static final RowMapper<Lecturer> LECTURER_ROW_MAPPER = (rs, rowNum) -> new Lecturer(rs.getLong(1));
 
     private NamedParameterJdbcOperations namedParameterJdbcTemplate;
@@ -29,18 +37,45 @@ public class JdbcLecturerRepository implements LecturerRepository {
     }
 
     @Override
-    public Optional<Lecturer> findByNsUserId(Long userId) {
-        String sql = "select ns_user_id from lecturer where ns_user_id = :nsUserId";
+    public int[] saveAll(Map<Long, Lecturer> lecturersBySessionId) {
+        String sql = "insert into lecturer (ns_user_id, session_id) values(:nsUserId,:sessionId)";
+        MapSqlParameterSource[] batch = lecturersBySessionId.entrySet().stream()
+                .map(entry -> {
+                    MapSqlParameterSource param = new MapSqlParameterSource();
+                    param.addValue("nsUserId", entry.getValue().getNsUserId());
+                    param.addValue("sessionId", entry.getKey());
+                    return param;
+                })
+                .toArray(MapSqlParameterSource[]::new);
+        return namedParameterJdbcTemplate.batchUpdate(sql, batch);
+    }
+
+    // 한 강사가 여러 강의를 맡을 수 있으므로 강의 id와 함께 조회한다
+    @Override
+    public Optional<Lecturer> findBySessionIdAndNsUserId(Long sessionId, Long userId) {
         MapSqlParameterSource param = new MapSqlParameterSource();
+        param.addValue("sessionId", sessionId);
         param.addValue("nsUserId", userId);
-        return Optional.ofNullable(namedParameterJdbcTemplate.queryForObject(sql, param, LECTURER_ROW_MAPPER));
+        return namedParameterJdbcTemplate.query(FIND_BY_SESSION_ID_AND_NS_USER_ID, param, LECTURER_ROW_MAPPER).stream().findFirst();
     }
 
     @Override
     public Optional<Lecturer> findBySessionId(Long sessionId) {
-        String sql = "select ns_user_id from lecturer where session_id = :sessionId";
         MapSqlParameterSource param = new MapSqlParameterSource();
         param.addValue("sessionId", sessionId);
-        return Optional.ofNullable(namedParameterJdbcTemplate.queryForObject(sql, param, LECTURER_ROW_MAPPER));
+        return namedParameterJdbcTemplate.query(FIND_BY_SESSION_ID, param, LECTURER_ROW_MAPPER).stream().findFirst();
+    }
+
+    @Override
+    public Map<Long, Lecturer> findAllBySessionIds(List<Long> sessionIds) {
+        Map<Long, Lecturer> lecturers = new HashMap<>();
+        if (sessionIds.isEmpty()) {
+            return lecturers;
+        }
+        MapSqlParameterSource param = new MapSqlParameterSource();
+        param.addValue("sessionIds", sessionIds);
+        namedParameterJdbcTemplate.query(FIND_ALL_BY_SESSION_IDS, param, (RowCallbackHandler) rs -> lecturers
+                .put(rs.getLong(2), LECTURER_ROW_MAPPER.mapRow(rs, rs.getRow())));
+        return lecturers;
     }
 }
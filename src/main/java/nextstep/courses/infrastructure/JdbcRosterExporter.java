@@ -0,0 +1,149 @@
+package nextstep.courses.infrastructure;
+
+import nextstep.courses.domain.student.RosterExporter;
+import nextstep.courses.domain.student.RosterFormat;
+import nextstep.courses.domain.student.StudentStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.stereotype.Repository;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.zip.GZIPOutputStream;
+
+@Repository
+public class JdbcRosterExporter implements RosterExporter {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String CSV_HEADER = "session_id,ns_user_id,user_id,name,email,amount,status\n";
+    private static final String SELECT = "select s.session_id, s.ns_user_id, u.user_id, u.name, u.email, s.amount, s.status " +
+            "from student s left join ns_user u on u.id = s.ns_user_id ";
+    static final String EXPORT_BY_SESSION_ID = SELECT + "where s.session_id = ?";
+    static final String EXPORT_BY_COURSE_ID = SELECT + "join session se on se.id = s.session_id where se.course_id = ?";
+    static final String STATUS_FILTER = " and s.status = ?";
+
+    private final NamedParameterJdbcOperations namedParameterJdbcTemplate;
+    private final int fetchSize;
+
+    public JdbcRosterExporter(NamedParameterJdbcOperations namedParameterJdbcTemplate,
+                              @Value("${lms.roster.export.fetch-size:1000}") int fetchSize) {
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public long exportBySessionId(Long sessionId, StudentStatus status, RosterFormat format, boolean gzip, WritableByteChannel channel) {
+        return export(EXPORT_BY_SESSION_ID, sessionId, status, format, gzip, channel);
+    }
+
+    @Override
+    public long exportByCourseId(Long courseId, StudentStatus status, RosterFormat format, boolean gzip, WritableByteChannel channel) {
+        return export(EXPORT_BY_COURSE_ID, courseId, status, format, gzip, channel);
+    }
+
+    private long export(String sql, Long id, StudentStatus status, RosterFormat format, boolean gzip, WritableByteChannel channel) {
+        Object[] args = status == null ? new Object[]{id} : new Object[]{id, StudentStatus.codec().encode(status)};
+        String query = status == null ? sql : sql + STATUS_FILTER;
+
+        try {
+            if (!gzip) {
+                return write(query, args, format, channel);
+            }
+            // gzip 스트림은 닫아야 Deflater의 네이티브 메모리가 해제된다. 호출한 쪽의 채널은 닫지 않는다
+            try (GZIPOutputStream gzipStream = new GZIPOutputStream(new NonClosingOutputStream(Channels.newOutputStream(channel)), BUFFER_SIZE)) {
+                return write(query, args, format, Channels.newChannel(gzipStream));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private long write(String query, Object[] args, RosterFormat format, WritableByteChannel channel) throws IOException {
+        RosterWriter writer = new RosterWriter(channel, BUFFER_SIZE);
+        if (format == RosterFormat.CSV) {
+            writer.ascii(CSV_HEADER);
+        }
+
+        RosterRowHandler handler = new RosterRowHandler(writer, format);
+        namedParameterJdbcTemplate.getJdbcOperations().query(StreamingStatements.of(query, fetchSize, args), handler);
+
+        writer.flush();
+        return handler.count;
+    }
+
+    private static class NonClosingOutputStream extends FilterOutputStream {
+        NonClosingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+
+    private static class RosterRowHandler implements RowCallbackHandler {
+        private final RosterWriter writer;
+        private final RosterFormat format;
+        private long count;
+
+        RosterRowHandler(RosterWriter writer, RosterFormat format) {
+            this.writer = writer;
+            this.format = format;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            try {
+                if (format == RosterFormat.CSV) {
+                    writeCsv(rs);
+                } else {
+                    writeJson(rs);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            count++;
+        }
+
+        private void writeCsv(ResultSet rs) throws SQLException, IOException {
+            writer.number(rs.getLong(1)).ascii(',')
+                    .number(rs.getLong(2)).ascii(',')
+                    .csv(rs.getString(3)).ascii(',')
+                    .csv(rs.getString(4)).ascii(',')
+                    .csv(rs.getString(5)).ascii(',');
+            long amount = rs.getLong(6);
+            if (!rs.wasNull()) {
+                writer.number(amount);
+            }
+            writer.ascii(',').csv(rs.getString(7)).ascii('\n');
+        }
+
+        private void writeJson(ResultSet rs) throws SQLException, IOException {
+            writer.ascii("{\"sessionId\":").number(rs.getLong(1))
+                    .ascii(",\"nsUserId\":").number(rs.getLong(2))
+                    .ascii(",\"userId\":").json(rs.getString(3))
+                    .ascii(",\"name\":").json(rs.getString(4))
+                    .ascii(",\"email\":").json(rs.getString(5))
+                    .ascii(",\"amount\":");
+            long amount = rs.getLong(6);
+            if (rs.wasNull()) {
+                writer.ascii("null");
+            } else {
+                writer.number(amount);
+            }
+            writer.ascii(",\"status\":").json(rs.getString(7)).ascii("}\n");
+        }
+    }
+}
@@ -1,38 +1,49 @@
 package nextstep.courses.infrastructure;
 
 import nextstep.courses.domain.session.*;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.stereotype.Repository;
 
-import java.sql.Timestamp;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Repository
 public class JdbcSessionRepository implements SessionRepository {
+    static final String FIND_BY_ID = "select id, title, start_at, end_at, session_type, session_progress_status, session_recruit_status, capacity, price from session where id = :id";
+    static final String FIND_ALL_BY_COURSE_ID = "select id, title, start_at, end_at, session_type, session_progress_status, session_recruit_status, capacity, price from session where course_id = :courseId";
+    static final String STREAM_ALL_BY_COURSE_ID = "select id, title, start_at, end_at, session_type, session_progress_status, session_recruit_status, capacity, price from session where course_id = ?";
+    static final String RESERVE_SEATS = "update session set seats_taken = seats_taken + :count where id = :id and seats_taken + :count <= capacity";
+    static final String RELEASE_SEATS = "update session set seats_taken = greatest(seats_taken - :count, 0) where id = :id";
+    static final String RECONCILE_SEATS = "update session set seats_taken = (select count(*) from student where student.session_id = session.id and student.status <> 'REJECTED')";
+
     private static final RowMapper<Session> COURSE_ROW_MAPPER = (rs, rowNum) -> {
         long sessionId = rs.getLong(1);
         String title = rs.getString(2);
-        Timestamp startAt = rs.getTimestamp(3);
-        Timestamp endAt = rs.getTimestamp(4);
-        SessionDate date = new SessionDate(startAt.toLocalDateTime(), endAt.toLocalDateTime());
+        SessionDate date = new SessionDate(rs.getObject(3, LocalDateTime.class), rs.getObject(4, LocalDateTime.class));
         SessionType type = SessionType.of(rs.getString(5));
         SessionProgressStatus sessionProgressStatus = SessionProgressStatus.of(rs.getString(6));
         SessionRecruitStatus sessionRecruitStatus = SessionRecruitStatus.of(rs.getString(7));
+        // SessionStatus는 상태가 바뀌므로 행마다 새로 만든다
         SessionStatus sessionStatus = new SessionStatus(sessionProgressStatus, sessionRecruitStatus);
         if (type.equals(SessionType.FREE)) {
-            return new FreeSession(sessionId, title, date, new ArrayList<>(), type, sessionStatus, new ArrayList<>());
+            return new FreeSession(sessionId, title, date, Collections.emptyList(), type, sessionStatus, Collections.emptyList());
         }
 
-        SessionCapacity capacity = new SessionCapacity(rs.getInt(8));
-        Money money = new Money(rs.getLong(9));
-        return new PaidSession(sessionId, title, date, new ArrayList<>(), type, sessionStatus, new ArrayList<>(), capacity, money);
+        SessionCapacity capacity = SessionCapacity.of(rs.getInt(8));
+        Money money = Money.of(rs.getLong(9));
+        return new PaidSession(sessionId, title, date, Collections.emptyList(), type, sessionStatus, Collections.emptyList(), capacity, money);
     };
 
     private NamedParameterJdbcOperations namedParameterJdbcTemplate;
@@ -54,15 +65,52 @@ public class JdbcSessionRepository implements SessionRepository {
         return Objects.requireNonNull(keyHolder.getKey()).longValue();
     }
 
+    @Override
+    public List<Long> saveAll(List<Session> sessions, List<Long> courseIds) {
+        if (sessions.size() != courseIds.size()) {
+            throw new IllegalArgumentException("sessions and courseIds must have the same size");
+        }
+        String sql = "insert into session (course_id, title, start_at, end_at, session_type, session_progress_status, session_recruit_status, capacity, price, created_at) " +
+                "values(?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        LocalDateTime now = LocalDateTime.now();
+        return BatchInserts.insertReturningKeys(namedParameterJdbcTemplate.getJdbcOperations(), sql, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Session session = sessions.get(i);
+                ps.setObject(1, courseIds.get(i));
+                ps.setString(2, session.getTitle());
+                ps.setObject(3, session.getSessionDate().getStart());
+                ps.setObject(4, session.getSessionDate().getEnd());
+                ps.setString(5, SessionType.codec().encode(session.getSessionType()));
+                ps.setString(6, SessionProgressStatus.codec().encode(session.getSessionStatus().getSessionProgressStatus()));
+                ps.setString(7, SessionRecruitStatus.codec().encode(session.getSessionStatus().getSessionRecruitStatus()));
+                if (session instanceof PaidSession) {
+                    PaidSession paidSession = (PaidSession) session;
+                    ps.setObject(8, paidSession.getCapacity().getCapacity());
+                    ps.setObject(9, paidSession.getFee().getPrice());
+                } else {
+                    ps.setObject(8, null);
+                    ps.setObject(9, null);
+                }
+                ps.setObject(10, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return sessions.size();
+            }
+        });
+    }
+
     private MapSqlParameterSource getParam(Long courseId, Session session) {
         MapSqlParameterSource param = new MapSqlParameterSource();
         param.addValue("courseId", courseId);
         param.addValue("title", session.getTitle());
         param.addValue("startAt", session.getSessionDate().getStart());
         param.addValue("endAt", session.getSessionDate().getEnd());
-        param.addValue("sessionType", session.getSessionType().name());
-        param.addValue("sessionProgressStatus", session.getSessionStatus().getSessionProgressStatus().name());
-        param.addValue("sessionRecruitStatus", session.getSessionStatus().getSessionRecruitStatus().name());
+        param.addValue("sessionType", SessionType.codec().encode(session.getSessionType()));
+        param.addValue("sessionProgressStatus", SessionProgressStatus.codec().encode(session.getSessionStatus().getSessionProgressStatus()));
+        param.addValue("sessionRecruitStatus", SessionRecruitStatus.codec().encode(session.getSessionStatus().getSessionRecruitStatus()));
         param.addValue("createdAt", LocalDateTime.now());
 
         if (session instanceof FreeSession) {
@@ -79,17 +127,48 @@ public class JdbcSessionRepository implements SessionRepository {
 
     @Override
     public Optional<Session> findById(Long id) {
-        String sql = "select id, title, start_at, end_at, session_type, session_progress_status, session_recruit_status, capacity, price from session where id = :id";
         MapSqlParameterSource param = new MapSqlParameterSource();
         param.addValue("id", id);
-        return Optional.ofNullable(namedParameterJdbcTemplate.queryForObject(sql, param, COURSE_ROW_MAPPER));
+        return Optional.ofNullable(namedParameterJdbcTemplate.queryForObject(FIND_BY_ID, param, COURSE_ROW_MAPPER));
     }
 
     @Override
     public List<Session> findAllByCourseId(Long courseId) {
-        String sql = "select id, title, start_at, end_at, session_type, session_progress_status, session_recruit_status, capacity, price from session where course_id = :courseId";
         MapSqlParameterSource param = new MapSqlParameterSource();
         param.addValue("courseId", courseId);
-        return namedParameterJdbcTemplate.query(sql, param, COURSE_ROW_MAPPER);
+        return namedParameterJdbcTemplate.query(FIND_ALL_BY_COURSE_ID, param, COURSE_ROW_MAPPER);
+    }
+
+    @Override
+    public Stream<Session> streamAllByCourseId(Long courseId, int fetchSize) {
+        return namedParameterJdbcTemplate.getJdbcOperations()
+                .queryForStream(StreamingStatements.of(STREAM_ALL_BY_COURSE_ID, fetchSize, courseId), COURSE_ROW_MAPPER);
+    }
+
+    @Override
+    public void forEachByCourseId(Long courseId, int fetchSize, Consumer<Session> consumer) {
+        namedParameterJdbcTemplate.getJdbcOperations()
+                .query(StreamingStatements.of(STREAM_ALL_BY_COURSE_ID, fetchSize, courseId), (RowCallbackHandler) rs -> consumer.accept(COURSE_ROW_MAPPER.mapRow(rs, rs.getRow())));
+    }
+
+    @Override
+    public boolean reserveSeats(Long sessionId, int count) {
+        MapSqlParameterSource param = new MapSqlParameterSource();
+        param.addValue("count", count);
+        param.addValue("id", sessionId);
+        return namedParameterJdbcTemplate.update(RESERVE_SEATS, param) == 1;
+    }
+
+    @Override
+    public void releaseSeats(Long sessionId, int count) {
+        MapSqlParameterSource param = new MapSqlParameterSource();
+        param.addValue("count", count);
+        param.addValue("id", sessionId);
+        namedParameterJdbcTemplate.update(RELEASE_SEATS, param);
+    }
+
+    @Override
+    public int reconcileSeats() {
+        return namedParameterJdbcTemplate.update(RECONCILE_SEATS, new MapSqlParameterSource());
     }
 }
@@ -3,16 +3,30 @@ package nextstep.courses.infrastructure;
 import nextstep.courses.domain.student.Student;
 import nextstep.courses.domain.student.StudentRepository;
 import nextstep.courses.domain.student.StudentStatus;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Repository
 public class JdbcStudentRepository implements StudentRepository {
+    static final String FIND_BY_ID = "select ns_user_id, amount, status from student where ns_user_id = :nsUserId and session_id = :sessionId";
+    static final String FIND_ALL_BY_SESSION_ID = "select ns_user_id, amount, status from student where session_id = :sessionId";
+    static final String STREAM_ALL_BY_SESSION_ID = "select ns_user_id, amount, status from student where session_id = ?";
+    static final String FIND_ALL_BY_SESSION_IDS = "select ns_user_id, amount, status, session_id from student where session_id in (:sessionIds)";
+    static final String UPDATE_STATUS = "update student set status = :status where ns_user_id = :nsUserId and session_id = :sessionId";
+    static final String FIND_STATUSES_BY_NS_USER_IDS = "select ns_user_id, status from student where session_id = :sessionId and ns_user_id in (:nsUserIds) for update";
+    static final String UPDATE_STATUS_BY_NS_USER_IDS = "update student set status = :to where session_id = :sessionId and ns_user_id in (:nsUserIds) and status = :from";
+
     private static final RowMapper<Student> STUDENT_ROW_MAPPER = (rs, rowNum) -> new Student(
             rs.getLong(1),
             rs.getLong(2),
@@ -31,7 +45,7 @@ public class JdbcStudentRepository implements StudentRepository {
         param.addValue("nsUserId", student.getNsUserId());
         param.addValue("sessionId", sessionId);
         param.addValue("amount", student.getAmount());
-        param.addValue("status", student.getStatus().name());
+        param.addValue("status", StudentStatus.codec().encode(student.getStatus()));
         return namedParameterJdbcTemplate.update(sql, param);
     }
 
@@ -44,7 +58,7 @@ public class JdbcStudentRepository implements StudentRepository {
                     param.addValue("nsUserId", student.getNsUserId());
                     param.addValue("sessionId", sessionId);
                     param.addValue("amount", student.getAmount());
-                    param.addValue("status", student.getStatus().name());
+                    param.addValue("status", StudentStatus.codec().encode(student.getStatus()));
                     return param;
                 })
                 .toArray(MapSqlParameterSource[]::new);
@@ -53,32 +67,96 @@ public class JdbcStudentRepository implements StudentRepository {
 
     @Override
     public Optional<Student> findById(Long nsUserId, Long sessionId) {
-        String sql = "select ns_user_id, amount, status from student where ns_user_id = :nsUserId and session_id = :sessionId";
         MapSqlParameterSource param = new MapSqlParameterSource();
         param.addValue("nsUserId", nsUserId);
         param.addValue("sessionId", sessionId);
-        return Optional.ofNullable(namedParameterJdbcTemplate.queryForObject(sql, param, STUDENT_ROW_MAPPER));
+        return Optional.ofNullable(namedParameterJdbcTemplate.queryForObject(FIND_BY_ID, param, STUDENT_ROW_MAPPER));
     }
 
     @Override
     public List<Student> findAllBySessionId(Long sessionId) {
-        String sql = "select ns_user_id, amount, status from student where session_id = :sessionId";
         MapSqlParameterSource param = new MapSqlParameterSource();
         param.addValue("sessionId", sessionId);
-        return namedParameterJdbcTemplate.query(sql, param, STUDENT_ROW_MAPPER);
+        return namedParameterJdbcTemplate.query(FIND_ALL_BY_SESSION_ID, param, STUDENT_ROW_MAPPER);
+    }
+
+    @Override
+    public Stream<Student> streamAllBySessionId(Long sessionId, int fetchSize) {
+        return namedParameterJdbcTemplate.getJdbcOperations()
+                .queryForStream(StreamingStatements.of(STREAM_ALL_BY_SESSION_ID, fetchSize, sessionId), STUDENT_ROW_MAPPER);
+    }
+
+    @Override
+    public void forEachBySessionId(Long sessionId, int fetchSize, Consumer<Student> consumer) {
+        namedParameterJdbcTemplate.getJdbcOperations()
+                .query(StreamingStatements.of(STREAM_ALL_BY_SESSION_ID, fetchSize, sessionId), (RowCallbackHandler) rs -> consumer.accept(STUDENT_ROW_MAPPER.mapRow(rs, rs.getRow())));
+    }
+
+    @Override
+    public Map<Long, List<Student>> findAllBySessionIds(List<Long> sessionIds) {
+        Map<Long, List<Student>> students = new HashMap<>();
+        if (sessionIds.isEmpty()) {
+            return students;
+        }
+        MapSqlParameterSource param = new MapSqlParameterSource();
+        param.addValue("sessionIds", sessionIds);
+        namedParameterJdbcTemplate.query(FIND_ALL_BY_SESSION_IDS, param, (RowCallbackHandler) rs -> students
+                .computeIfAbsent(rs.getLong(4), key -> new ArrayList<>())
+                .add(STUDENT_ROW_MAPPER.mapRow(rs, rs.getRow())));
+        return students;
     }
 
     @Override
     public Student updateStatus(Student student, Long sessionId) {
-        String sql = "update student set status = :status where ns_user_id = :nsUserId and session_id = :sessionId";
         MapSqlParameterSource param = new MapSqlParameterSource();
-        param.addValue("status", student.getStatus().name());
+        param.addValue("status", StudentStatus.codec().encode(student.getStatus()));
         param.addValue("nsUserId", student.getNsUserId());
         param.addValue("sessionId", sessionId);
-        int update = namedParameterJdbcTemplate.update(sql, param);
+        int update = namedParameterJdbcTemplate.update(UPDATE_STATUS, param);
         if (update != 1) {
             throw new RuntimeException("Update failed");
         }
         return student;
     }
+
+    @Override
+    public int[] updateStatusAll(List<Student> students, Long sessionId) {
+        MapSqlParameterSource[] batch = students.stream()
+                .map(student -> {
+                    MapSqlParameterSource param = new MapSqlParameterSource();
+                    param.addValue("status", StudentStatus.codec().encode(student.getStatus()));
+                    param.addValue("nsUserId", student.getNsUserId());
+                    param.addValue("sessionId", sessionId);
+                    return param;
+                })
+                .toArray(MapSqlParameterSource[]::new);
+        return namedParameterJdbcTemplate.batchUpdate(UPDATE_STATUS, batch);
+    }
+
+    @Override
+    public Map<Long, StudentStatus> findStatusesByNsUserIds(Long sessionId, List<Long> nsUserIds) {
+        Map<Long, StudentStatus> statuses = new HashMap<>();
+        if (nsUserIds.isEmpty()) {
+            return statuses;
+        }
+        MapSqlParameterSource param = new MapSqlParameterSource();
+        param.addValue("sessionId", sessionId);
+        param.addValue("nsUserIds", nsUserIds);
+        namedParameterJdbcTemplate.query(FIND_STATUSES_BY_NS_USER_IDS, param, (RowCallbackHandler) rs -> statuses
+                .put(rs.getLong(1), StudentStatus.of(rs.getString(2))));
+        return statuses;
+    }
+
+    @Override
+    public int updateStatusByNsUserIds(Long sessionId, List<Long> nsUserIds, StudentStatus from, StudentStatus to) {
+        if (nsUserIds.isEmpty()) {
+            return 0;
+        }
+        MapSqlParameterSource param = new MapSqlParameterSource();
+        param.addValue("to", StudentStatus.codec().encode(to));
+        param.addValue("sessionId", sessionId);
+        param.addValue("nsUserIds", nsUserIds);
+        param.addValue("from", StudentStatus.codec().encode(from));
+        return namedParameterJdbcTemplate.update(UPDATE_STATUS_BY_NS_USER_IDS, param);
+    }
 }
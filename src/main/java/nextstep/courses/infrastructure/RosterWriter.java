@@ -0,0 +1,158 @@
+package nextstep.courses.infrastructure;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+final class RosterWriter {
+    private static final byte[] HEX = {'0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'a', 'b', 'c', 'd', 'e', 'f'};
+    private static final int MAX_UTF8_BYTES = 4;
+
+    private final WritableByteChannel channel;
+    private final ByteBuffer buffer;
+    private final byte[] digits = new byte[20];
+
+    RosterWriter(WritableByteChannel channel, int bufferSize) {
+        if (bufferSize < digits.length) {
+            throw new IllegalArgumentException("bufferSize must be at least " + digits.length);
+        }
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocate(bufferSize);
+    }
+
+    RosterWriter ascii(char c) throws IOException {
+        ensure(1);
+        buffer.put((byte) c);
+        return this;
+    }
+
+    RosterWriter ascii(String value) throws IOException {
+        for (int i = 0; i < value.length(); i++) {
+            ascii(value.charAt(i));
+        }
+        return this;
+    }
+
+    RosterWriter number(long value) throws IOException {
+        if (value == Long.MIN_VALUE) {
+            return ascii(Long.toString(value));
+        }
+        if (value < 0) {
+            ascii('-');
+            value = -value;
+        }
+        int length = 0;
+        do {
+            digits[length++] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value > 0);
+
+        ensure(digits.length);
+        while (length > 0) {
+            buffer.put(digits[--length]);
+        }
+        return this;
+    }
+
+    // 구분자, 따옴표, 줄바꿈이 있는 값만 따옴표로 감싼다 (RFC 4180)
+    RosterWriter csv(String value) throws IOException {
+        if (value == null) {
+            return this;
+        }
+        if (!needsQuote(value)) {
+            return text(value);
+        }
+
+        ascii('"');
+        for (int i = 0; i < value.length(); ) {
+            int codePoint = value.codePointAt(i);
+            if (codePoint == '"') {
+                ascii('"');
+            }
+            utf8(codePoint);
+            i += Character.charCount(codePoint);
+        }
+        return ascii('"');
+    }
+
+    RosterWriter json(String value) throws IOException {
+        if (value == null) {
+            return ascii("null");
+        }
+
+        ascii('"');
+        for (int i = 0; i < value.length(); ) {
+            int codePoint = value.codePointAt(i);
+            if (codePoint == '"' || codePoint == '\\') {
+                ascii('\\').ascii((char) codePoint);
+            } else if (codePoint == '\n') {
+                ascii("\\n");
+            } else if (codePoint == '\r') {
+                ascii("\\r");
+            } else if (codePoint == '\t') {
+                ascii("\\t");
+            } else if (codePoint < 0x20) {
+                ascii("\\u00").ascii((char) HEX[codePoint >> 4]).ascii((char) HEX[codePoint & 0xF]);
+            } else {
+                utf8(codePoint);
+            }
+            i += Character.charCount(codePoint);
+        }
+        return ascii('"');
+    }
+
+    RosterWriter text(String value) throws IOException {
+        for (int i = 0; i < value.length(); ) {
+            int codePoint = value.codePointAt(i);
+            utf8(codePoint);
+            i += Character.charCount(codePoint);
+        }
+        return this;
+    }
+
+    void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private static boolean needsQuote(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void utf8(int codePoint) throws IOException {
+        ensure(MAX_UTF8_BYTES);
+        if (codePoint < 0x80) {
+            buffer.put((byte) codePoint);
+        } else if (codePoint < 0x800) {
+            buffer.put((byte) (0xC0 | codePoint >> 6));
+            buffer.put((byte) (0x80 | codePoint & 0x3F));
+        } else if (codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE) {
+            // 짝이 맞지 않는 surrogate는 올바른 UTF-8로 표현할 수 없다
+            buffer.put((byte) '?');
+        } else if (codePoint < 0x10000) {
+            buffer.put((byte) (0xE0 | codePoint >> 12));
+            buffer.put((byte) (0x80 | codePoint >> 6 & 0x3F));
+            buffer.put((byte) (0x80 | codePoint & 0x3F));
+        } else {
+            buffer.put((byte) (0xF0 | codePoint >> 18));
+            buffer.put((byte) (0x80 | codePoint >> 12 & 0x3F));
+            buffer.put((byte) (0x80 | codePoint >> 6 & 0x3F));
+            buffer.put((byte) (0x80 | codePoint & 0x3F));
+        }
+    }
+
+    private void ensure(int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package nextstep.courses.infrastructure;
+
+import org.springframework.jdbc.core.PreparedStatementCreator;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+final class StreamingStatements {
+    private StreamingStatements() {
+    }
+
+    // 전방 전용, 읽기 전용 커서로 fetchSize 만큼씩 가져오도록 드라이버에 알린다
+    static PreparedStatementCreator of(String sql, int fetchSize, Object... args) {
+        if (fetchSize <= 0) {
+            throw new IllegalArgumentException("fetchSize must be greater than 0");
+        }
+        return con -> {
+            PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            for (int i = 0; i < args.length; i++) {
+                ps.setObject(i + 1, args[i]);
+            }
+            return ps;
+        };
+    }
+}
@@ -0,0 +1,90 @@
+package nextstep.courses.service;
+
+import nextstep.courses.domain.session.Session;
+import nextstep.payments.domain.Payment;
+import nextstep.users.domain.NsUser;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+@Service
+public class AsyncSessionService {
+    private final SessionService sessionService;
+    private final ExecutorService executor;
+    private final boolean virtualThreads;
+    private final Semaphore inFlight;
+    private final Semaphore running;
+
+    public AsyncSessionService(SessionService sessionService,
+                               @Value("${lms.session.async.virtual-threads:true}") boolean virtualThreads,
+                               @Value("${lms.session.async.threads:16}") int threads,
+                               @Value("${lms.session.async.max-in-flight:10000}") int maxInFlight) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("threads must be greater than 0");
+        }
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("maxInFlight must be greater than 0");
+        }
+        this.sessionService = sessionService;
+        this.virtualThreads = virtualThreads;
+        this.executor = virtualThreads ? Executors.newVirtualThreadPerTaskExecutor() : Executors.newFixedThreadPool(threads);
+        this.inFlight = new Semaphore(maxInFlight);
+        this.running = new Semaphore(threads);
+    }
+
+    public CompletableFuture<Session> findById(long sessionId) {
+        return submit(() -> sessionService.findById(sessionId));
+    }
+
+    public CompletableFuture<List<Session>> findAllByCourseId(long courseId) {
+        return submit(() -> sessionService.findAllByCourseId(courseId));
+    }
+
+    public CompletableFuture<Session> register(Long sessionId, NsUser nsUser, Payment payment) {
+        return submit(() -> sessionService.register(sessionId, nsUser, payment));
+    }
+
+    // 처리 중인 요청이 상한에 닿으면 대기열에 쌓지 않고 즉시 실패시킨다
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        if (!inFlight.tryAcquire()) {
+            return CompletableFuture.failedFuture(new RejectedExecutionException("Too many session requests in flight"));
+        }
+        try {
+            return CompletableFuture.supplyAsync(() -> run(task), executor)
+                    .whenComplete((result, e) -> inFlight.release());
+        } catch (RejectedExecutionException e) {
+            inFlight.release();
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    // 가상 스레드는 개수 제한이 없으므로 동시에 커넥션을 잡는 작업 수를 threads로 묶어 커넥션 풀 타임아웃을 피한다
+    private <T> T run(Supplier<T> task) {
+        if (!virtualThreads) {
+            return task.get();
+        }
+        running.acquireUninterruptibly();
+        try {
+            return task.get();
+        } finally {
+            running.release();
+        }
+    }
+
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,79 @@
+package nextstep.courses.service;
+
+import nextstep.courses.domain.session.Session;
+import nextstep.courses.domain.session.SessionRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+// 강의를 쓰는 경로가 서비스를 거치지 않더라도 SessionCache에 이전 값이 남지 않도록 저장소 앞에서 커밋 후 evict 한다
+@Primary
+@Component
+public class CacheEvictingSessionRepository implements SessionRepository {
+    private final SessionRepository delegate;
+    private final SessionCache sessionCache;
+
+    public CacheEvictingSessionRepository(@Qualifier("jdbcSessionRepository") SessionRepository delegate, SessionCache sessionCache) {
+        this.delegate = delegate;
+        this.sessionCache = sessionCache;
+    }
+
+    @Override
+    public long save(Session session, Long courseId) {
+        long sessionId = delegate.save(session, courseId);
+        sessionCache.evictAfterCommit(sessionId);
+        return sessionId;
+    }
+
+    @Override
+    public List<Long> saveAll(List<Session> sessions, List<Long> courseIds) {
+        List<Long> sessionIds = delegate.saveAll(sessions, courseIds);
+        sessionIds.forEach(sessionCache::evictAfterCommit);
+        return sessionIds;
+    }
+
+    @Override
+    public Optional<Session> findById(Long id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public List<Session> findAllByCourseId(Long courseId) {
+        return delegate.findAllByCourseId(courseId);
+    }
+
+    @Override
+    public Stream<Session> streamAllByCourseId(Long courseId, int fetchSize) {
+        return delegate.streamAllByCourseId(courseId, fetchSize);
+    }
+
+    @Override
+    public void forEachByCourseId(Long courseId, int fetchSize, Consumer<Session> consumer) {
+        delegate.forEachByCourseId(courseId, fetchSize, consumer);
+    }
+
+    @Override
+    public boolean reserveSeats(Long sessionId, int count) {
+        boolean reserved = delegate.reserveSeats(sessionId, count);
+        if (reserved) {
+            sessionCache.evictAfterCommit(sessionId);
+        }
+        return reserved;
+    }
+
+    @Override
+    public void releaseSeats(Long sessionId, int count) {
+        delegate.releaseSeats(sessionId, count);
+        sessionCache.evictAfterCommit(sessionId);
+    }
+
+    @Override
+    public int reconcileSeats() {
+        return delegate.reconcileSeats();
+    }
+}
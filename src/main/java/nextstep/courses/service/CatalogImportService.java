@@ -0,0 +1,95 @@
+package nextstep.courses.service;
+
+import nextstep.courses.domain.course.Course;
+import nextstep.courses.domain.course.CourseRepository;
+import nextstep.courses.domain.image.Image;
+import nextstep.courses.domain.image.ImageRepository;
+import nextstep.courses.domain.lecturer.Lecturer;
+import nextstep.courses.domain.lecturer.LecturerRepository;
+import nextstep.courses.domain.session.Session;
+import nextstep.courses.domain.session.SessionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntConsumer;
+
+@Service
+public class CatalogImportService {
+    private final CourseRepository courseRepository;
+    private final SessionRepository sessionRepository;
+    private final ImageRepository imageRepository;
+    private final LecturerRepository lecturerRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public CatalogImportService(CourseRepository courseRepository,
+                                SessionRepository sessionRepository,
+                                ImageRepository imageRepository,
+                                LecturerRepository lecturerRepository,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${lms.catalog.import.chunk-size:500}") int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be greater than 0");
+        }
+        this.courseRepository = courseRepository;
+        this.sessionRepository = sessionRepository;
+        this.imageRepository = imageRepository;
+        this.lecturerRepository = lecturerRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    public int importCourses(List<Course> courses) {
+        return importCourses(courses, 0, committed -> {
+        });
+    }
+
+    // fromIndex 이전의 과정은 이미 커밋된 것으로 보고 건너뛴다.
+    // 청크가 커밋될 때마다 다음 시작 위치를 알려주므로, 실패하면 마지막으로 받은 위치부터 다시 시작하면 된다.
+    public int importCourses(List<Course> courses, int fromIndex, IntConsumer onChunkCommitted) {
+        if (fromIndex < 0 || fromIndex > courses.size()) {
+            throw new IllegalArgumentException("fromIndex is out of range: " + fromIndex);
+        }
+
+        int next = fromIndex;
+        while (next < courses.size()) {
+            List<Course> chunk = courses.subList(next, Math.min(next + chunkSize, courses.size()));
+            transactionTemplate.executeWithoutResult(status -> importChunk(chunk));
+            next += chunk.size();
+            onChunkCommitted.accept(next);
+        }
+        return next;
+    }
+
+    private void importChunk(List<Course> courses) {
+        List<Long> courseIds = courseRepository.saveAll(courses);
+
+        List<Session> sessions = new ArrayList<>();
+        List<Long> sessionCourseIds = new ArrayList<>();
+        for (int i = 0; i < courses.size(); i++) {
+            for (Session session : courses.get(i).getSessions()) {
+                sessions.add(session);
+                sessionCourseIds.add(courseIds.get(i));
+            }
+        }
+        List<Long> sessionIds = sessionRepository.saveAll(sessions, sessionCourseIds);
+
+        Map<Long, List<Image>> images = new LinkedHashMap<>();
+        Map<Long, Lecturer> lecturers = new LinkedHashMap<>();
+        for (int i = 0; i < sessions.size(); i++) {
+            Session session = sessions.get(i);
+            images.put(sessionIds.get(i), session.getImages());
+            if (session.getLecturer() != null) {
+                lecturers.put(sessionIds.get(i), session.getLecturer());
+            }
+        }
+        imageRepository.saveAll(images);
+        lecturerRepository.saveAll(lecturers);
+    }
+}
@@ -0,0 +1,201 @@
+package nextstep.courses.service;
+
+import nextstep.courses.domain.course.Course;
+import nextstep.courses.domain.session.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 조회는 스냅샷을 lock 없이 찾아 읽기 전용 인스턴스를 그대로 반환하고, 강의가 변경되면 새 스냅샷을 비동기로 만들어 교체한다.
+// 변경 이벤트를 놓치더라도 ttl이 지나면 저장소에서 다시 읽는다. 같은 과정은 한 번에 하나의 조회만 저장소를 읽는다.
+@Component
+public class CourseCatalog {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CourseCatalog.class);
+
+    private final ConcurrentMap<Long, Snapshot> snapshots = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, Long> courseIdsBySessionId = new ConcurrentHashMap<>();
+    // 캐시에 없던 과정도 변경된 버전을 남겨, 변경 전에 읽기 시작한 조회가 오래된 스냅샷을 넣지 못하게 한다
+    private final ConcurrentMap<Long, Long> changedVersions = new ConcurrentHashMap<>();
+    // 어느 과정의 강의인지 모르는 변경은 그 전에 읽기 시작한 모든 조회가 스냅샷을 넣지 못하게 한다
+    private final AtomicLong unresolvedVersion = new AtomicLong();
+    private final AtomicLong versions = new AtomicLong();
+    // 진행 중인 조회의 버전. 가장 오래된 조회보다 앞선 변경 기록은 더 이상 막을 조회가 없으므로 지운다
+    private final NavigableSet<Long> loadingVersions = new TreeSet<>();
+    private final ConcurrentMap<Long, CompletableFuture<Course>> loads = new ConcurrentHashMap<>();
+    private final ExecutorService rebuilder = Executors.newSingleThreadExecutor();
+    private final long ttlNanos;
+
+    public CourseCatalog(@Value("${lms.course.catalog.ttl-seconds:300}") long ttlSeconds) {
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+    }
+
+    public Course get(Long courseId, Function<Long, Course> loader) {
+        Snapshot snapshot = snapshots.get(courseId);
+        if (snapshot != null && !snapshot.isExpired(System.nanoTime())) {
+            return snapshot.course;
+        }
+        CompletableFuture<Course> loading = new CompletableFuture<>();
+        CompletableFuture<Course> inFlight = loads.putIfAbsent(courseId, loading);
+        if (inFlight != null) {
+            // 만료된 스냅샷은 다른 조회가 다시 읽는 동안 그대로 내주고, 스냅샷이 없을 때만 그 결과를 기다린다
+            if (snapshot != null) {
+                return snapshot.course;
+            }
+            return await(inFlight);
+        }
+        try {
+            Course course = load(courseId, loader);
+            loading.complete(course);
+            return course;
+        } catch (RuntimeException e) {
+            loading.completeExceptionally(e);
+            throw e;
+        } finally {
+            loads.remove(courseId, loading);
+        }
+    }
+
+    private Course load(Long courseId, Function<Long, Course> loader) {
+        long version = startLoading();
+        try {
+            Course course = readOnly(loader.apply(courseId));
+            if (unresolvedVersion.get() > version) {
+                return course;
+            }
+            Snapshot installed = install(courseId, version, course);
+            if (installed == null) {
+                return course;
+            }
+            return installed.course;
+        } finally {
+            finishLoading(version);
+        }
+    }
+
+    private static Course await(CompletableFuture<Course> loading) {
+        try {
+            return loading.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private long startLoading() {
+        synchronized (loadingVersions) {
+            long version = versions.incrementAndGet();
+            loadingVersions.add(version);
+            return version;
+        }
+    }
+
+    private void finishLoading(long version) {
+        synchronized (loadingVersions) {
+            loadingVersions.remove(version);
+            long oldest = loadingVersions.isEmpty() ? versions.get() : loadingVersions.first();
+            changedVersions.values().removeIf(changed -> changed <= oldest);
+        }
+    }
+
+    public void refreshAsync(Long courseId, Function<Long, Course> loader) {
+        changedVersions.merge(courseId, versions.incrementAndGet(), Math::max);
+        if (!snapshots.containsKey(courseId)) {
+            return;
+        }
+        rebuilder.execute(() -> {
+            long version = startLoading();
+            try {
+                install(courseId, version, readOnly(loader.apply(courseId)));
+            } catch (RuntimeException e) {
+                snapshots.remove(courseId);
+                LOGGER.warn("Failed to rebuild course snapshot: {}", courseId, e);
+            } finally {
+                finishLoading(version);
+            }
+        });
+    }
+
+    // 아직 스냅샷에 색인되지 않은 강의가 바뀌면 과정을 알 수 없으므로, 진행 중인 조회 전체를 무효로 한다
+    public void invalidateLoading() {
+        unresolvedVersion.accumulateAndGet(versions.incrementAndGet(), Math::max);
+    }
+
+    private Snapshot install(Long courseId, long version, Course course) {
+        if (changedVersions.getOrDefault(courseId, 0L) > version) {
+            return null;
+        }
+        Snapshot installed = snapshots.compute(courseId, (key, current) -> {
+            if (current != null && current.version > version) {
+                return current;
+            }
+            return new Snapshot(version, course, System.nanoTime() + ttlNanos);
+        });
+        for (Session session : installed.course.getSessions()) {
+            courseIdsBySessionId.put(session.getId(), courseId);
+        }
+        return installed;
+    }
+
+    // 저장소에서 새로 읽은 강의를 넣을 때 한 번만 읽기 전용으로 바꾼다. 상태를 바꾸려면 Session.copy()로 꺼내 쓴다
+    private static Course readOnly(Course course) {
+        List<Session> sessions = course.getSessions().stream()
+                .map(Session::readOnly)
+                .collect(Collectors.toUnmodifiableList());
+        return Course.of(course, sessions);
+    }
+
+    public Long findCourseIdBySessionId(Long sessionId) {
+        return courseIdsBySessionId.get(sessionId);
+    }
+
+    public long getVersion(Long courseId) {
+        Snapshot snapshot = snapshots.get(courseId);
+        if (snapshot == null) {
+            return 0L;
+        }
+        return snapshot.version;
+    }
+
+    public void evict(Long courseId) {
+        snapshots.remove(courseId);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuilder.shutdown();
+    }
+
+    private static class Snapshot {
+        private final long version;
+        private final Course course;
+        private final long expiresAt;
+
+        private Snapshot(long version, Course course, long expiresAt) {
+            this.version = version;
+            this.course = course;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+}
@@ -4,8 +4,12 @@ import nextstep.courses.domain.course.Course;
 import nextstep.courses.domain.course.CourseRepository;
 import nextstep.courses.domain.lecturer.Lecturer;
 import nextstep.courses.domain.session.Session;
+import nextstep.courses.domain.session.SessionChangedEvent;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 
@@ -13,10 +17,18 @@ import java.util.List;
 public class CourseService {
     private final CourseRepository courseRepository;
     private final SessionService sessionService;
+    private final CourseCatalog courseCatalog;
+    private final TransactionTemplate readOnlyTransaction;
 
-    public CourseService(CourseRepository courseRepository, SessionService sessionService) {
+    public CourseService(CourseRepository courseRepository,
+                         SessionService sessionService,
+                         CourseCatalog courseCatalog,
+                         PlatformTransactionManager transactionManager) {
         this.courseRepository = courseRepository;
         this.sessionService = sessionService;
+        this.courseCatalog = courseCatalog;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
     }
 
     @Transactional
@@ -27,11 +39,30 @@ public class CourseService {
         return courseId;
     }
 
-    @Transactional(readOnly = true)
     public Course findById(long courseId) {
-        Course course = courseRepository.findById(courseId).orElseThrow();
-        List<Session> sessions = sessionService.findAllByCourseId(course.getId());
+        return courseCatalog.get(courseId, this::load);
+    }
+
+    // 스냅샷에 없을 때만 트랜잭션을 열어 과정과 강의를 같은 시점으로 읽는다. 스냅샷 조회는 커넥션을 쓰지 않는다
+    private Course load(long courseId) {
+        return readOnlyTransaction.execute(status -> {
+            Course course = courseRepository.findById(courseId).orElseThrow();
+            List<Session> sessions = sessionService.findAllByCourseId(course.getId());
+
+            return Course.of(course, sessions);
+        });
+    }
 
-        return Course.of(course, sessions);
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSessionChanged(SessionChangedEvent event) {
+        Long courseId = event.getCourseId();
+        if (courseId == null) {
+            courseId = courseCatalog.findCourseIdBySessionId(event.getSessionId());
+        }
+        if (courseId == null) {
+            courseCatalog.invalidateLoading();
+            return;
+        }
+        courseCatalog.refreshAsync(courseId, this::load);
     }
 }
@@ -0,0 +1,213 @@
+package nextstep.courses.service;
+
+import nextstep.courses.domain.session.Registration;
+import nextstep.courses.domain.session.RegistrationResult;
+import nextstep.courses.domain.student.Student;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@Component
+public class RegistrationBatcher {
+    private final SessionService sessionService;
+    private final int maxBatchSize;
+    private final long maxWaitMillis;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    // 같은 강의의 배치는 항상 같은 작업자가 순서대로 처리해 좌석과 수강생 행을 두고 서로 경합하지 않는다
+    private final ExecutorService[] workers;
+    private final Map<Long, List<PendingRegistration>> pending = new HashMap<>();
+    private boolean closed;
+
+    public RegistrationBatcher(SessionService sessionService,
+                               @Value("${lms.registration.batch.max-size:100}") int maxBatchSize,
+                               @Value("${lms.registration.batch.max-wait-ms:10}") long maxWaitMillis,
+                               @Value("${lms.registration.batch.workers:4}") int workers) {
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("maxBatchSize must be greater than 0");
+        }
+        if (workers <= 0) {
+            throw new IllegalArgumentException("workers must be greater than 0");
+        }
+        this.sessionService = sessionService;
+        this.maxBatchSize = maxBatchSize;
+        this.maxWaitMillis = maxWaitMillis;
+        this.workers = new ExecutorService[workers];
+        for (int i = 0; i < workers; i++) {
+            this.workers[i] = Executors.newSingleThreadExecutor();
+        }
+    }
+
+    public CompletableFuture<Student> submit(Registration registration) {
+        CompletableFuture<Student> future = new CompletableFuture<>();
+        Long sessionId = registration.getSessionId();
+        List<PendingRegistration> fullBatch = null;
+
+        synchronized (pending) {
+            if (closed) {
+                future.completeExceptionally(new IllegalStateException("RegistrationBatcher is shut down"));
+                return future;
+            }
+            List<PendingRegistration> batch = pending.get(sessionId);
+            if (batch == null) {
+                batch = new ArrayList<>();
+                pending.put(sessionId, batch);
+                List<PendingRegistration> scheduled = batch;
+                scheduler.schedule(() -> flush(sessionId, scheduled), maxWaitMillis, TimeUnit.MILLISECONDS);
+            }
+            batch.add(new PendingRegistration(registration, future));
+            if (batch.size() >= maxBatchSize) {
+                fullBatch = pending.remove(sessionId);
+            }
+        }
+
+        if (fullBatch != null) {
+            dispatch(sessionId, fullBatch);
+        }
+        return future;
+    }
+
+    private void flush(Long sessionId, List<PendingRegistration> batch) {
+        synchronized (pending) {
+            if (pending.get(sessionId) != batch) {
+                return;
+            }
+            pending.remove(sessionId);
+        }
+        dispatch(sessionId, batch);
+    }
+
+    private void dispatch(Long sessionId, List<PendingRegistration> batch) {
+        try {
+            workerOf(sessionId).execute(new BatchTask(sessionId, batch));
+        } catch (RejectedExecutionException e) {
+            fail(batch, new IllegalStateException("RegistrationBatcher is shut down", e));
+        }
+    }
+
+    private ExecutorService workerOf(Long sessionId) {
+        return workers[Math.floorMod(sessionId.hashCode(), workers.length)];
+    }
+
+    private void process(Long sessionId, List<PendingRegistration> batch) {
+        try {
+            register(sessionId, batch);
+        } catch (RuntimeException e) {
+            if (batch.size() == 1 || !isCausedByItem(e)) {
+                fail(batch, e);
+                return;
+            }
+            // 정원 초과, 결제 불일치, 중복 신청처럼 일부 신청 때문에 배치가 실패했을 때만 한 건씩 다시 시도한다
+            for (PendingRegistration it : batch) {
+                process(sessionId, List.of(it));
+            }
+        }
+    }
+
+    // 커넥션 부족이나 닫힌 강의처럼 배치 전체에 해당하는 실패는 다시 시도해도 같으므로 바로 실패로 돌려준다
+    private static boolean isCausedByItem(RuntimeException e) {
+        return e instanceof IllegalArgumentException || e instanceof DuplicateKeyException;
+    }
+
+    private void register(Long sessionId, List<PendingRegistration> batch) {
+        List<Registration> registrations = batch.stream()
+                .map(PendingRegistration::getRegistration)
+                .collect(Collectors.toList());
+        List<RegistrationResult> results = sessionService.registerAll(sessionId, registrations);
+        for (int i = 0; i < batch.size(); i++) {
+            complete(batch.get(i).getFuture(), results.get(i));
+        }
+    }
+
+    private static void fail(List<PendingRegistration> batch, Throwable e) {
+        batch.forEach(it -> it.getFuture().completeExceptionally(e));
+    }
+
+    private static void complete(CompletableFuture<Student> future, RegistrationResult result) {
+        if (result.isSuccess()) {
+            future.complete(result.getStudent());
+            return;
+        }
+        future.completeExceptionally(result.getError());
+    }
+
+    // 아직 모이는 중인 신청과 시작하지 못한 배치는 실패로 끝내 호출한 쪽이 무한히 기다리지 않게 한다
+    @PreDestroy
+    public void shutdown() {
+        List<PendingRegistration> unflushed = new ArrayList<>();
+        synchronized (pending) {
+            closed = true;
+            pending.values().forEach(unflushed::addAll);
+            pending.clear();
+        }
+        scheduler.shutdownNow();
+        for (ExecutorService worker : workers) {
+            worker.shutdown();
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        try {
+            for (ExecutorService worker : workers) {
+                if (!worker.awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                    drainQueued(worker, unflushed);
+                }
+            }
+        } catch (InterruptedException e) {
+            for (ExecutorService worker : workers) {
+                drainQueued(worker, unflushed);
+            }
+            Thread.currentThread().interrupt();
+        }
+        fail(unflushed, new IllegalStateException("RegistrationBatcher is shut down"));
+    }
+
+    private static void drainQueued(ExecutorService worker, List<PendingRegistration> unflushed) {
+        for (Runnable task : worker.shutdownNow()) {
+            unflushed.addAll(((BatchTask) task).batch);
+        }
+    }
+
+    private class BatchTask implements Runnable {
+        private final Long sessionId;
+        private final List<PendingRegistration> batch;
+
+        private BatchTask(Long sessionId, List<PendingRegistration> batch) {
+            this.sessionId = sessionId;
+            this.batch = batch;
+        }
+
+        @Override
+        public void run() {
+            process(sessionId, batch);
+        }
+    }
+
+    private static class PendingRegistration {
+        private final Registration registration;
+        private final CompletableFuture<Student> future;
+
+        private PendingRegistration(Registration registration, CompletableFuture<Student> future) {
+            this.registration = registration;
+            this.future = future;
+        }
+
+        private Registration getRegistration() {
+            return registration;
+        }
+
+        private CompletableFuture<Student> getFuture() {
+            return future;
+        }
+    }
+}
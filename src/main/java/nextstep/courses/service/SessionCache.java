@@ -0,0 +1,169 @@
+package nextstep.courses.service;
+
+import nextstep.courses.domain.session.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+// 캐시된 Session은 여러 조회 요청이 공유하므로 넣을 때와 꺼낼 때 모두 복사본을 쓴다. 호출한 쪽이 상태를 바꿔도 캐시에는 남지 않는다.
+// 쓰기 로직은 직접 로드한 Session을 사용하고 커밋 후 evict 한다. 같은 강의는 한 번에 하나의 요청만 저장소를 읽고 나머지는 그 결과를 기다린다.
+@Component
+public class SessionCache {
+    private final int maxSize;
+    private final long ttlNanos;
+    private final Map<Long, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    // 진행 중인 로드. evict 되면 표시를 남겨, 변경 전에 읽은 Session이 캐시에 들어가지 않게 한다
+    private final Map<Long, Loading> loadings = new HashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public SessionCache(@Value("${lms.session.cache.max-size:1000}") int maxSize,
+                        @Value("${lms.session.cache.ttl-seconds:60}") long ttlSeconds) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be greater than 0");
+        }
+        this.maxSize = maxSize;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+    }
+
+    public Session get(Long sessionId, Function<Long, Session> loader) {
+        Loading loading;
+        boolean owner;
+        synchronized (this) {
+            Session cached = getIfPresent(sessionId);
+            if (cached != null) {
+                hits.increment();
+                return cached.copy();
+            }
+            misses.increment();
+            loading = loadings.get(sessionId);
+            owner = loading == null;
+            if (owner) {
+                loading = new Loading();
+                loadings.put(sessionId, loading);
+            }
+        }
+        if (!owner) {
+            return await(loading.future).copy();
+        }
+
+        Session session;
+        try {
+            session = loader.apply(sessionId);
+        } catch (RuntimeException e) {
+            finish(sessionId, loading, null);
+            loading.future.completeExceptionally(e);
+            throw e;
+        }
+        Session stored = session.copy();
+        finish(sessionId, loading, stored);
+        loading.future.complete(stored);
+        return session;
+    }
+
+    private static Session await(CompletableFuture<Session> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private Session getIfPresent(Long sessionId) {
+        Entry entry = entries.get(sessionId);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired(System.nanoTime())) {
+            entries.remove(sessionId);
+            evictions.increment();
+            return null;
+        }
+        return entry.session;
+    }
+
+    private synchronized void finish(Long sessionId, Loading loading, Session session) {
+        loadings.remove(sessionId, loading);
+        if (session == null || loading.evicted) {
+            return;
+        }
+        entries.put(sessionId, new Entry(session, System.nanoTime() + ttlNanos));
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (entries.size() > maxSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            evictions.increment();
+        }
+    }
+
+    public synchronized void evict(Long sessionId) {
+        entries.remove(sessionId);
+        Loading loading = loadings.remove(sessionId);
+        if (loading != null) {
+            loading.evicted = true;
+        }
+    }
+
+    public void evictAfterCommit(Long sessionId) {
+        evict(sessionId);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                evict(sessionId);
+            }
+        });
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    private static class Loading {
+        private final CompletableFuture<Session> future = new CompletableFuture<>();
+        private boolean evicted;
+    }
+
+    private static class Entry {
+        private final Session session;
+        private final long expiresAt;
+
+        private Entry(Session session, long expiresAt) {
+            this.session = session;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+}
@@ -7,12 +7,26 @@ import nextstep.courses.domain.lecturer.LecturerRepository;
 import nextstep.courses.domain.session.*;
 import nextstep.courses.domain.student.Student;
 import nextstep.courses.domain.student.StudentRepository;
+import nextstep.courses.domain.student.StudentStatus;
+import nextstep.courses.domain.student.StudentStatusTransition;
 import nextstep.payments.domain.Payment;
 import nextstep.users.domain.NsUser;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 @Service
@@ -21,19 +35,44 @@ public class SessionService {
     private final ImageRepository imageRepository;
     private final StudentRepository studentRepository;
     private final LecturerRepository lecturerRepository;
+    private final SessionCache sessionCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Executor childFetchExecutor;
+    private final SeatCounter seatCounter = new SeatCounter();
 
     public SessionService(SessionRepository sessionRepository,
                           ImageRepository imageRepository,
                           StudentRepository studentRepository,
-                          LecturerRepository lecturerRepository) {
+                          LecturerRepository lecturerRepository,
+                          SessionCache sessionCache,
+                          ApplicationEventPublisher eventPublisher,
+                          @Nullable @Qualifier("sessionChildFetchExecutor") Executor childFetchExecutor) {
         this.sessionRepository = sessionRepository;
         this.imageRepository = imageRepository;
         this.studentRepository = studentRepository;
         this.lecturerRepository = lecturerRepository;
+        this.sessionCache = sessionCache;
+        this.eventPublisher = eventPublisher;
+        this.childFetchExecutor = childFetchExecutor;
     }
 
-    @Transactional(readOnly = true)
+    // seats_taken 컬럼이 추가되기 전의 강의나 어긋난 값을 기동할 때 수강생 수로 맞춘다
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void reconcileSeats() {
+        sessionRepository.reconcileSeats();
+    }
+
+    // 트랜잭션을 열지 않는다. 호출 스레드가 커넥션을 쥔 채 자식 조회를 기다리면, 풀이 고갈됐을 때 자식 조회가 커넥션을 얻지 못해 서로 기다리게 된다.
+    // 이미 트랜잭션 안에서 호출됐다면 그 커넥션을 쥐고 있으므로 자식 조회도 같은 트랜잭션에서 순차로 실행한다
     public Session findById(long sessionId) {
+        if (childFetchExecutor == null || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return sessionCache.get(sessionId, this::loadSession);
+        }
+        return sessionCache.get(sessionId, this::loadSessionConcurrently);
+    }
+
+    private Session loadSession(long sessionId) {
         Session session = sessionRepository.findById(sessionId).orElseThrow();
         List<Image> images = imageRepository.findAllBySessionId(sessionId);
         List<Student> students = studentRepository.findAllBySessionId(sessionId);
@@ -42,6 +81,27 @@ public class SessionService {
         return getSession(session, images, students, lecturer);
     }
 
+    // 트랜잭션 밖에서만 사용한다. 조회마다 커넥션을 잠깐 빌렸다 돌려주므로 대기하는 동안 쥐고 있는 커넥션이 없다
+    private Session loadSessionConcurrently(long sessionId) {
+        CompletableFuture<List<Image>> images = CompletableFuture.supplyAsync(() -> imageRepository.findAllBySessionId(sessionId), childFetchExecutor);
+        CompletableFuture<List<Student>> students = CompletableFuture.supplyAsync(() -> studentRepository.findAllBySessionId(sessionId), childFetchExecutor);
+        CompletableFuture<Lecturer> lecturer = CompletableFuture.supplyAsync(() -> lecturerRepository.findBySessionId(sessionId).orElse(null), childFetchExecutor);
+        Session session = sessionRepository.findById(sessionId).orElseThrow();
+
+        return getSession(session, join(images), join(students), join(lecturer));
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
     private static Session getSession(Session session, List<Image> images, List<Student> students, Lecturer lecturer) {
         if (session.getSessionType().equals(SessionType.FREE)) {
             return FreeSession.of((FreeSession) session, images, students, lecturer);
@@ -51,13 +111,21 @@ public class SessionService {
 
     @Transactional(readOnly = true)
     public List<Session> findAllByCourseId(long courseId) {
-        return sessionRepository.findAllByCourseId(courseId).stream()
-                .map(it -> {
-                    List<Image> images = imageRepository.findAllBySessionId(it.getId());
-                    List<Student> students = studentRepository.findAllBySessionId(it.getId());
-                    Lecturer lecturer = lecturerRepository.findBySessionId(it.getId()).orElse(null);
-                    return getSession(it, images, students, lecturer);
-                })
+        List<Session> sessions = sessionRepository.findAllByCourseId(courseId);
+        List<Long> sessionIds = sessions.stream()
+                .map(Session::getId)
+                .collect(Collectors.toList());
+
+        Map<Long, List<Image>> images = imageRepository.findAllBySessionIds(sessionIds);
+        Map<Long, List<Student>> students = studentRepository.findAllBySessionIds(sessionIds);
+        Map<Long, Lecturer> lecturers = lecturerRepository.findAllBySessionIds(sessionIds);
+
+        return sessions.stream()
+                .map(it -> getSession(
+                        it,
+                        images.getOrDefault(it.getId(), Collections.emptyList()),
+                        students.getOrDefault(it.getId(), Collections.emptyList()),
+                        lecturers.get(it.getId())))
                 .collect(Collectors.toList());
     }
 
@@ -66,13 +134,15 @@ public class SessionService {
         long saveSessionId = sessionRepository.save(session, courseId);
         imageRepository.saveAll(images, saveSessionId);
         lecturerRepository.save(lecturer, saveSessionId);
+        sessionCache.evictAfterCommit(saveSessionId);
+        eventPublisher.publishEvent(new SessionChangedEvent(saveSessionId, courseId));
 
         return saveSessionId;
     }
 
     @Transactional
     public Session register(Long sessionId, NsUser nsUser, Payment payment) {
-        Session session = findById(sessionId);
+        Session session = loadSession(sessionId);
 
         Registration registration = Registration.of(sessionId, nsUser, payment);
 
@@ -84,32 +154,165 @@ public class SessionService {
         return session;
     }
 
+    @Transactional
+    public List<RegistrationResult> registerAll(Long sessionId, List<Registration> registrations) {
+        Session session = loadSession(sessionId);
+
+        List<RegistrationResult> results = registrations.stream()
+                .map(it -> tryRegister(session, it))
+                .collect(Collectors.toList());
+        if (session.getNewStudents().isEmpty()) {
+            return results;
+        }
+
+        if (session.getSessionType().equals(SessionType.FREE)) {
+            saveStudentChanges(session);
+            return results;
+        }
+        saveRegistrations((PaidSession) session);
+        return results;
+    }
+
+    private static RegistrationResult tryRegister(Session session, Registration registration) {
+        try {
+            session.register(registration);
+            return RegistrationResult.success(registration, Student.of(registration));
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            return RegistrationResult.failure(registration, e);
+        }
+    }
+
     @Transactional
     public Session accept(Long sessionId, Lecturer lecturer, List<Student> students) {
-        Session session = findById(sessionId);
+        Session session = loadSession(sessionId);
         session.acceptStudents(lecturer, students);
 
-        studentRepository.saveAll(students, sessionId);
+        saveStudentChanges(session);
         return session;
     }
 
     @Transactional
     public Session reject(Long sessionId, Lecturer lecturer, List<Student> students) {
-        Session session = findById(sessionId);
+        Session session = loadSession(sessionId);
+        int seats = session.getSeatCount();
         session.rejectStudents(lecturer, students);
 
-        studentRepository.saveAll(students, sessionId);
+        saveStudentChanges(session);
+        releaseSeats(session, seats - session.getSeatCount());
         return session;
     }
 
+    @Transactional
+    public StudentStatusTransition acceptAll(Long sessionId, Lecturer lecturer, List<Long> nsUserIds) {
+        return changeStudentStatus(sessionId, lecturer, nsUserIds, StudentStatus.ACCEPTED);
+    }
+
+    @Transactional
+    public StudentStatusTransition rejectAll(Long sessionId, Lecturer lecturer, List<Long> nsUserIds) {
+        return changeStudentStatus(sessionId, lecturer, nsUserIds, StudentStatus.REJECTED);
+    }
+
+    private StudentStatusTransition changeStudentStatus(Long sessionId, Lecturer lecturer, List<Long> nsUserIds, StudentStatus status) {
+        Session session = sessionRepository.findById(sessionId).orElseThrow();
+        session.assignLecturer(lecturerRepository.findBySessionId(sessionId).orElse(null));
+        session.checkStudentStatusChangeable(lecturer);
+
+        Map<Long, StudentStatus> currentStatuses = studentRepository.findStatusesByNsUserIds(sessionId, nsUserIds);
+        StudentStatusTransition transition = StudentStatusTransition.of(status, nsUserIds, currentStatuses);
+        int updated = studentRepository.updateStatusByNsUserIds(sessionId, transition.getUpdatableNsUserIds(), StudentStatus.APPLIED, status);
+        if (status == StudentStatus.REJECTED) {
+            releaseSeats(session, updated);
+        }
+        sessionChanged(sessionId);
+
+        return transition;
+    }
+
     private void registerPaidSession(PaidSession session, Registration registration) {
         session.register(registration);
-        studentRepository.saveAll(session.getStudents(), session.getId());
+        saveRegistrations(session);
+    }
+
+    private void saveRegistrations(PaidSession session) {
+        Long sessionId = session.getId();
+        int count = session.getNewStudents().size();
+        int taken = session.getSeatCount() - count;
+        if (!seatCounter.tryReserve(sessionId, taken, session.getCapacity().getCapacity(), count)) {
+            throw new IllegalArgumentException("Capacity is full");
+        }
+
+        // 트랜잭션 안이면 롤백이 확정된 뒤에 카운터를 돌려준다. 커밋 단계에서 실패해도 선점한 좌석이 남지 않는다
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        seatCounter.release(sessionId, count);
+                    }
+                }
+            });
+            reserveSeats(session, count);
+            return;
+        }
+
+        try {
+            reserveSeats(session, count);
+        } catch (RuntimeException e) {
+            seatCounter.release(sessionId, count);
+            throw e;
+        }
+    }
+
+    private void reserveSeats(PaidSession session, int count) {
+        if (!sessionRepository.reserveSeats(session.getId(), count)) {
+            throw new IllegalArgumentException("Capacity is full");
+        }
+        saveStudentChanges(session);
+    }
+
+    // 유료 강의에서 거절된 수강생의 좌석을 돌려준다. 카운터는 커밋된 뒤에만 돌려줘 롤백되면 그대로 둔다
+    private void releaseSeats(Session session, int count) {
+        if (count <= 0 || !session.getSessionType().equals(SessionType.PAID)) {
+            return;
+        }
+        Long sessionId = session.getId();
+        sessionRepository.releaseSeats(sessionId, count);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            seatCounter.release(sessionId, count);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    seatCounter.release(sessionId, count);
+                }
+            }
+        });
     }
 
     private void registerFreeSession(FreeSession session, Registration registration) {
         session.register(registration);
-        studentRepository.saveAll(session.getStudents(), session.getId());
+        saveStudentChanges(session);
     }
 
+    private void saveStudentChanges(Session session) {
+        List<Student> newStudents = session.getNewStudents();
+        if (!newStudents.isEmpty()) {
+            studentRepository.saveAll(newStudents, session.getId());
+        }
+
+        List<Student> changedStudents = session.getChangedStudents();
+        if (!changedStudents.isEmpty()) {
+            studentRepository.updateStatusAll(changedStudents, session.getId());
+        }
+
+        session.clearStudentChanges();
+        sessionChanged(session.getId());
+    }
+
+    private void sessionChanged(Long sessionId) {
+        sessionCache.evictAfterCommit(sessionId);
+        eventPublisher.publishEvent(new SessionChangedEvent(sessionId));
+    }
 }
@@ -0,0 +1,106 @@
+package nextstep.metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+public class MeteredDataSource extends DelegatingDataSource {
+    private static final Logger SLOW_QUERY_LOGGER = LoggerFactory.getLogger("nextstep.sql.slow");
+    private static final int MAX_NORMALIZED_SQLS = 1024;
+
+    private final QueryMetrics queryMetrics;
+    private final long slowQueryThresholdNanos;
+    // 같은 문장이 준비될 때마다 정규식을 다시 돌리지 않도록 원문 SQL별 정규화 결과를 기억한다. 한도를 넘은 문장은 매번 정규화한다
+    private final Map<String, String> normalizedSqls = new ConcurrentHashMap<>();
+
+    public MeteredDataSource(DataSource targetDataSource, QueryMetrics queryMetrics) {
+        this(targetDataSource, queryMetrics, 0);
+    }
+
+    // slowQueryThresholdMillis가 0 이하이면 느린 쿼리 로그를 남기지 않는다
+    public MeteredDataSource(DataSource targetDataSource, QueryMetrics queryMetrics, long slowQueryThresholdMillis) {
+        super(targetDataSource);
+        this.queryMetrics = queryMetrics;
+        this.slowQueryThresholdNanos = slowQueryThresholdMillis > 0 ? TimeUnit.MILLISECONDS.toNanos(slowQueryThresholdMillis) : Long.MAX_VALUE;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            if (result instanceof PreparedStatement && (method.getName().equals("prepareStatement") || method.getName().equals("prepareCall"))) {
+                String sql = normalize((String) args[0]);
+                return wrap((PreparedStatement) result, sql, queryMetrics.histogram(sql));
+            }
+            return result;
+        });
+    }
+
+    private String normalize(String sql) {
+        String normalized = normalizedSqls.get(sql);
+        if (normalized != null) {
+            return normalized;
+        }
+        normalized = QueryMetrics.normalize(sql);
+        if (normalizedSqls.size() < MAX_NORMALIZED_SQLS) {
+            normalizedSqls.put(sql, normalized);
+        }
+        return normalized;
+    }
+
+    // prepareCall이 돌려준 CallableStatement는 그 타입 그대로 감싸야 호출한 쪽의 캐스팅이 깨지지 않는다
+    private PreparedStatement wrap(PreparedStatement statement, String sql, LatencyHistogram histogram) {
+        Class<?> type = statement instanceof CallableStatement ? CallableStatement.class : PreparedStatement.class;
+        return (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (!method.getName().startsWith("execute")) {
+                return invoke(statement, method, args);
+            }
+            long start = System.nanoTime();
+            try {
+                return invoke(statement, method, args);
+            } finally {
+                long elapsed = System.nanoTime() - start;
+                histogram.record(elapsed);
+                if (elapsed >= slowQueryThresholdNanos) {
+                    logSlowQuery(sql, method.getName(), elapsed);
+                }
+            }
+        });
+    }
+
+    // 바인드 파라미터는 남기지 않으므로 문장당 한 줄만 기록된다
+    private static void logSlowQuery(String sql, String method, long nanos) {
+        if (SLOW_QUERY_LOGGER.isWarnEnabled()) {
+            SLOW_QUERY_LOGGER.warn("slow_query elapsedMs={} call={} sql=\"{}\"", TimeUnit.NANOSECONDS.toMillis(nanos), method, sql);
+        }
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package nextstep.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class MethodMetrics {
+    private final String repository;
+    private final String method;
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    public MethodMetrics(String repository, String method) {
+        this.repository = repository;
+        this.method = method;
+    }
+
+    public void record(long nanos, long rows, boolean failed) {
+        calls.increment();
+        this.rows.add(rows);
+        if (failed) {
+            errors.increment();
+        }
+        latency.record(nanos);
+    }
+
+    public String getRepository() {
+        return repository;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public long getCalls() {
+        return calls.sum();
+    }
+
+    public long getRows() {
+        return rows.sum();
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    @Override
+    public String toString() {
+        return "repository=" + repository +
+                " method=" + method +
+                " calls=" + getCalls() +
+                " rows=" + getRows() +
+                " errors=" + getErrors() +
+                " " + latency;
+    }
+}
@@ -0,0 +1,65 @@
+package nextstep.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+
+public class PoolMetrics {
+    private final LatencyHistogram connectionWait = new LatencyHistogram();
+    private final LatencyHistogram connectionUsage = new LatencyHistogram();
+    private final LongAdder connectionTimeouts = new LongAdder();
+    private volatile IntSupplier activeConnections = () -> 0;
+    private volatile IntSupplier idleConnections = () -> 0;
+    private volatile IntSupplier pendingThreads = () -> 0;
+
+    public void bind(IntSupplier activeConnections, IntSupplier idleConnections, IntSupplier pendingThreads) {
+        this.activeConnections = activeConnections;
+        this.idleConnections = idleConnections;
+        this.pendingThreads = pendingThreads;
+    }
+
+    public void recordWait(long nanos) {
+        connectionWait.record(nanos);
+    }
+
+    public void recordUsage(long nanos) {
+        connectionUsage.record(nanos);
+    }
+
+    public void recordTimeout() {
+        connectionTimeouts.increment();
+    }
+
+    public LatencyHistogram getConnectionWait() {
+        return connectionWait;
+    }
+
+    public LatencyHistogram getConnectionUsage() {
+        return connectionUsage;
+    }
+
+    public long getConnectionTimeouts() {
+        return connectionTimeouts.sum();
+    }
+
+    public int getActiveConnections() {
+        return activeConnections.getAsInt();
+    }
+
+    public int getIdleConnections() {
+        return idleConnections.getAsInt();
+    }
+
+    public int getPendingThreads() {
+        return pendingThreads.getAsInt();
+    }
+
+    @Override
+    public String toString() {
+        return "active=" + getActiveConnections() +
+                " idle=" + getIdleConnections() +
+                " pending=" + getPendingThreads() +
+                " timeouts=" + getConnectionTimeouts() +
+                " wait[" + connectionWait + "]" +
+                " usage[" + connectionUsage + "]";
+    }
+}
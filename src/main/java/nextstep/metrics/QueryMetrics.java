@@ -0,0 +1,41 @@
+package nextstep.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+public class QueryMetrics {
+    public static final String OTHER = "<other>";
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)+\\s*\\)");
+
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    private final int maxQueries;
+
+    public QueryMetrics(int maxQueries) {
+        if (maxQueries <= 0) {
+            throw new IllegalArgumentException("maxQueries must be greater than 0");
+        }
+        this.maxQueries = maxQueries;
+    }
+
+    // IN 목록 길이만 다른 SQL은 하나로 모아 집계한다
+    public static String normalize(String sql) {
+        return IN_LIST.matcher(sql).replaceAll("(?)");
+    }
+
+    public LatencyHistogram histogram(String normalizedSql) {
+        LatencyHistogram histogram = histograms.get(normalizedSql);
+        if (histogram != null) {
+            return histogram;
+        }
+        if (histograms.size() >= maxQueries) {
+            return histograms.computeIfAbsent(OTHER, key -> new LatencyHistogram());
+        }
+        return histograms.computeIfAbsent(normalizedSql, key -> new LatencyHistogram());
+    }
+
+    public Map<String, LatencyHistogram> getHistograms() {
+        return Collections.unmodifiableMap(histograms);
+    }
+}
@@ -0,0 +1,110 @@
+package nextstep.metrics;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.StringJoiner;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.BaseStream;
+
+public class RepositoryMetrics {
+    private final List<MethodMetrics> methods = new CopyOnWriteArrayList<>();
+
+    // 인터페이스 메서드마다 집계 객체를 미리 만들어 두고 호출 경로에서는 조회만 한다.
+    // 오버로드된 메서드끼리 구분되도록 이름에 파라미터 타입을 붙인다
+    public Object instrument(Object target, Class<?>[] interfaces) {
+        Map<Method, MethodMetrics> byMethod = new HashMap<>();
+        for (Class<?> type : interfaces) {
+            for (Method method : type.getMethods()) {
+                MethodMetrics metrics = new MethodMetrics(type.getSimpleName(), signature(method));
+                byMethod.put(method, metrics);
+                methods.add(metrics);
+            }
+        }
+
+        return Proxy.newProxyInstance(target.getClass().getClassLoader(), interfaces, (proxy, method, args) -> {
+            MethodMetrics metrics = byMethod.get(method);
+            if (metrics == null) {
+                return invoke(target, method, args);
+            }
+
+            long start = System.nanoTime();
+            Object result = null;
+            boolean failed = true;
+            try {
+                result = invoke(target, method, args);
+                failed = false;
+                return result;
+            } finally {
+                metrics.record(System.nanoTime() - start, rows(result), failed);
+            }
+        });
+    }
+
+    public List<MethodMetrics> getMethods() {
+        return Collections.unmodifiableList(methods);
+    }
+
+    public List<MethodMetrics> getCalledMethods() {
+        List<MethodMetrics> called = new ArrayList<>();
+        for (MethodMetrics metrics : methods) {
+            if (metrics.getCalls() > 0) {
+                called.add(metrics);
+            }
+        }
+        return called;
+    }
+
+    static String signature(Method method) {
+        StringJoiner parameters = new StringJoiner(",", method.getName() + "(", ")");
+        for (Class<?> parameterType : method.getParameterTypes()) {
+            parameters.add(parameterType.getSimpleName());
+        }
+        return parameters.toString();
+    }
+
+    static long rows(Object result) {
+        if (result == null || result instanceof BaseStream) {
+            return 0;
+        }
+        if (result instanceof Collection) {
+            return ((Collection<?>) result).size();
+        }
+        if (result instanceof Map) {
+            return ((Map<?, ?>) result).size();
+        }
+        if (result instanceof Optional) {
+            return ((Optional<?>) result).isPresent() ? 1 : 0;
+        }
+        if (result instanceof Integer) {
+            return (Integer) result;
+        }
+        if (result instanceof Boolean) {
+            return (Boolean) result ? 1 : 0;
+        }
+        if (result instanceof int[]) {
+            long rows = 0;
+            for (int count : (int[]) result) {
+                // 드라이버가 건수를 모르면 SUCCESS_NO_INFO(-2)를 돌려준다
+                rows += count >= 0 ? count : 1;
+            }
+            return rows;
+        }
+        return 1;
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package nextstep.metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class RepositoryMetricsReporter {
+    private static final Logger LOGGER = LoggerFactory.getLogger(RepositoryMetricsReporter.class);
+
+    private final RepositoryMetrics repositoryMetrics;
+    private final ScheduledExecutorService scheduler;
+
+    // intervalSeconds가 0 이하이면 주기적인 로그 출력을 하지 않는다
+    public RepositoryMetricsReporter(RepositoryMetrics repositoryMetrics,
+                                     @Value("${lms.metrics.repository.log-interval-seconds:60}") long intervalSeconds) {
+        this.repositoryMetrics = repositoryMetrics;
+        if (intervalSeconds <= 0) {
+            this.scheduler = null;
+            return;
+        }
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "repository-metrics-reporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(this::report, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    public void report() {
+        if (!LOGGER.isInfoEnabled()) {
+            return;
+        }
+        for (MethodMetrics metrics : repositoryMetrics.getCalledMethods()) {
+            LOGGER.info("{}", metrics);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+}
@@ -58,7 +58,7 @@ public class Answer {
     }
 
     public boolean isOwner(NsUser writer) {
-        return this.writer.equals(writer);
+        return this.writer.matchUser(writer);
     }
 
     public boolean isDeleteAvailable(NsUser writer) {
@@ -34,6 +34,22 @@ public class DeleteHistory {
         return new DeleteHistory(ContentType.ANSWER, answerId, writer, LocalDateTime.now());
     }
 
+    public ContentType getContentType() {
+        return contentType;
+    }
+
+    public Long getContentId() {
+        return contentId;
+    }
+
+    public NsUser getDeletedBy() {
+        return deletedBy;
+    }
+
+    public LocalDateTime getCreatedDate() {
+        return createdDate;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -1,8 +1,11 @@
 package nextstep.qna.domain;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface DeleteHistoryRepository {
 
     void saveAll(List<DeleteHistory> deleteHistories);
+
+    int saveAllByQuestion(Long questionId, LocalDateTime createdDate);
 }
@@ -70,7 +70,7 @@ public class Question {
     }
 
     public boolean isOwner(NsUser loginUser) {
-        return writer.equals(loginUser);
+        return writer.matchUser(loginUser);
     }
 
     public Question setDeleted(boolean deleted) {
@@ -0,0 +1,43 @@
+package nextstep.qna.domain;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+// 최신순 목록에서 마지막으로 본 질문의 위치. 다음 페이지는 이 위치보다 오래된 질문부터 시작한다
+public class QuestionCursor {
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    public QuestionCursor(LocalDateTime createdAt, Long id) {
+        if (createdAt == null || id == null) {
+            throw new IllegalArgumentException("createdAt and id are required");
+        }
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof QuestionCursor)) {
+            return false;
+        }
+        QuestionCursor that = (QuestionCursor) o;
+        return createdAt.equals(that.createdAt) && id.equals(that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(createdAt, id);
+    }
+}
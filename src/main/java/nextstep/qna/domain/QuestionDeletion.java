@@ -0,0 +1,32 @@
+package nextstep.qna.domain;
+
+import nextstep.qna.CannotDeleteException;
+import nextstep.users.domain.NsUser;
+
+// 질문을 불러오지 않고 삭제 가능 여부만 판단하기 위한 값. 다른 사람이 쓴 답변은 개수 대신 존재 여부만 갖는다
+public class QuestionDeletion {
+    private final Long questionId;
+    private final NsUser writer;
+    private final boolean foreignAnswerExists;
+
+    public QuestionDeletion(Long questionId, NsUser writer, boolean foreignAnswerExists) {
+        this.questionId = questionId;
+        this.writer = writer;
+        this.foreignAnswerExists = foreignAnswerExists;
+    }
+
+    // 질문의 isOwner와 같이 NsUser.matchUser로 작성자를 확인한다
+    public void validate(NsUser loginUser) throws CannotDeleteException {
+        if (writer == null || !writer.matchUser(loginUser)) {
+            throw new CannotDeleteException("질문을 삭제할 권한이 없습니다.");
+        }
+
+        if (foreignAnswerExists) {
+            throw new CannotDeleteException("다른 사람이 쓴 답변이 있어 삭제할 수 없습니다.");
+        }
+    }
+
+    public Long getQuestionId() {
+        return questionId;
+    }
+}
@@ -1,7 +1,16 @@
 package nextstep.qna.domain;
 
+import nextstep.users.domain.NsUser;
+
+import java.util.List;
 import java.util.Optional;
 
 public interface QuestionRepository {
     Optional<Question> findById(Long id);
+
+    Optional<QuestionDeletion> findDeletion(Long id, NsUser loginUser);
+
+    int deleteWithAnswers(Long id, NsUser loginUser);
+
+    List<QuestionSummary> findSummaries(QuestionCursor after, int size);
 }
@@ -0,0 +1,55 @@
+package nextstep.qna.domain;
+
+import java.time.LocalDateTime;
+
+// 목록 화면용 질문 요약. 본문(contents)은 읽지 않는다
+public class QuestionSummary {
+    private final Long id;
+    private final String title;
+    private final String writerUserId;
+    private final String writerName;
+    private final int answerCount;
+    private final LocalDateTime createdAt;
+
+    public QuestionSummary(Long id, String title, String writerUserId, String writerName, int answerCount, LocalDateTime createdAt) {
+        this.id = id;
+        this.title = title;
+        this.writerUserId = writerUserId;
+        this.writerName = writerName;
+        this.answerCount = answerCount;
+        this.createdAt = createdAt;
+    }
+
+    public QuestionCursor toCursor() {
+        return new QuestionCursor(createdAt, id);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getWriterUserId() {
+        return writerUserId;
+    }
+
+    public String getWriterName() {
+        return writerName;
+    }
+
+    public int getAnswerCount() {
+        return answerCount;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    @Override
+    public String toString() {
+        return "QuestionSummary [id=" + id + ", title=" + title + ", writerUserId=" + writerUserId + ", answerCount=" + answerCount + "]";
+    }
+}
@@ -2,14 +2,37 @@ package nextstep.qna.infrastructure;
 
 import nextstep.qna.domain.Answer;
 import nextstep.qna.domain.AnswerRepository;
+import nextstep.qna.domain.Question;
+import org.springframework.jdbc.core.JdbcOperations;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @Repository("answerRepository")
 public class JdbcAnswerRepository implements AnswerRepository {
+    // 작성자가 없는 답변은 Answer를 만들 수 없으므로 inner join으로 제외한다
+    static final String FIND_BY_QUESTION = "select a.id, a.contents, " + Writers.columns("aw") + " " +
+            "from answer a " +
+            "join ns_user aw on aw.id = a.writer_id " +
+            "where a.question_id = ? and a.deleted = false " +
+            "order by a.id";
+
+    private final JdbcOperations jdbcTemplate;
+
+    public JdbcAnswerRepository(JdbcOperations jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // 답변만 필요한 경우이므로 질문은 id만 가진 참조로 연결한다
     @Override
     public List<Answer> findByQuestion(Long questionId) {
-        return null;
+        Question question = new Question(questionId, null, null, null);
+        Writers writers = new Writers();
+        List<Answer> answers = new ArrayList<>();
+        jdbcTemplate.query(FIND_BY_QUESTION, rs -> {
+            answers.add(new Answer(rs.getLong(1), writers.get(rs, 3), question, rs.getString(2)));
+        }, questionId);
+        return answers;
     }
 }
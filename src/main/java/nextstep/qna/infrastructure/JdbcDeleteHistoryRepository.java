@@ -1,15 +1,62 @@
 package nextstep.qna.infrastructure;
 
+import nextstep.qna.domain.ContentType;
 import nextstep.qna.domain.DeleteHistory;
 import nextstep.qna.domain.DeleteHistoryRepository;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcOperations;
 import org.springframework.stereotype.Repository;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository("deleteHistoryRepository")
 public class JdbcDeleteHistoryRepository implements DeleteHistoryRepository {
+    static final String LIVE_CONTENTS = "select q.id content_id, '" + ContentType.QUESTION.name() + "' content_type, q.writer_id deleted_by_id " +
+            "from question q where q.id = ? and q.deleted = false " +
+            "union all " +
+            "select a.id, '" + ContentType.ANSWER.name() + "', a.writer_id from answer a " +
+            "where a.question_id = ? and a.deleted = false";
+    // 질문과 아직 삭제되지 않은 답변의 이력을 한 문장으로 기록한다. 답변을 삭제 처리하기 전에 실행해야 한다
+    static final String SAVE_ALL_BY_QUESTION = "insert into delete_history (id, content_id, content_type, created_date, deleted_by_id) " +
+            "select next value for delete_history_seq, t.content_id, t.content_type, ?, t.deleted_by_id " +
+            "from (" + LIVE_CONTENTS + ") t";
+
+    static final String INSERT = "insert into delete_history (id, content_id, content_type, created_date, deleted_by_id) " +
+            "values (next value for delete_history_seq, ?, ?, ?, ?)";
+
+    private final JdbcOperations jdbcTemplate;
+
+    public JdbcDeleteHistoryRepository(JdbcOperations jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
     @Override
     public void saveAll(List<DeleteHistory> deleteHistories) {
+        if (deleteHistories.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                DeleteHistory deleteHistory = deleteHistories.get(i);
+                ps.setObject(1, deleteHistory.getContentId());
+                ps.setString(2, deleteHistory.getContentType().name());
+                ps.setObject(3, deleteHistory.getCreatedDate());
+                ps.setObject(4, deleteHistory.getDeletedBy() == null ? null : deleteHistory.getDeletedBy().getId());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return deleteHistories.size();
+            }
+        });
+    }
 
+    @Override
+    public int saveAllByQuestion(Long questionId, LocalDateTime createdDate) {
+        return jdbcTemplate.update(SAVE_ALL_BY_QUESTION, createdDate, questionId, questionId);
     }
 }
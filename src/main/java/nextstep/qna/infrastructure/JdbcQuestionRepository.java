@@ -1,15 +1,142 @@
 package nextstep.qna.infrastructure;
 
+import nextstep.qna.domain.Answer;
 import nextstep.qna.domain.Question;
+import nextstep.qna.domain.QuestionCursor;
+import nextstep.qna.domain.QuestionDeletion;
 import nextstep.qna.domain.QuestionRepository;
+import nextstep.qna.domain.QuestionSummary;
+import nextstep.users.domain.NsUser;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Repository;
 
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository("questionRepository")
 public class JdbcQuestionRepository implements QuestionRepository {
+    // 질문, 작성자, 삭제되지 않은 답변과 답변 작성자를 한 번에 읽는다.
+    // 질문 본문(CLOB)은 답변 수만큼 반복되지 않도록 첫 행에만 싣는다
+    static final String FIND_BY_ID = "select q.id, q.title, case when row_number() over (order by a.id) = 1 then q.contents end, " + Writers.columns("qw") + ", " +
+            "a.id, a.contents, " + Writers.columns("aw") + " " +
+            "from question q " +
+            "left join ns_user qw on qw.id = q.writer_id " +
+            "left join answer a on a.question_id = q.id and a.deleted = false " +
+            "left join ns_user aw on aw.id = a.writer_id " +
+            "where q.id = ? and q.deleted = false " +
+            "order by a.id";
+    static final String FIND_DELETION = "select q.writer_id, qw.user_id, " +
+            "exists (select 1 from answer a left join ns_user aw on aw.id = a.writer_id " +
+            "where a.question_id = q.id and a.deleted = false and (aw.user_id is null or aw.user_id <> ?)) " +
+            "from question q " +
+            "left join ns_user qw on qw.id = q.writer_id " +
+            "where q.id = ? and q.deleted = false";
+    static final String SELECT_SUMMARIES = "select q.id, q.title, qw.user_id, qw.name, " +
+            "(select count(*) from answer a where a.question_id = q.id and a.deleted = false), q.created_at " +
+            "from question q " +
+            "left join ns_user qw on qw.id = q.writer_id " +
+            "where q.deleted = false ";
+    static final String AFTER_CURSOR = "and q.created_at <= ? and (q.created_at < ? or q.id < ?) ";
+    static final String ORDER_SUMMARIES = "order by q.created_at desc, q.id desc limit ?";
+    // 검증 뒤에 다른 사람이 답변을 달았으면 삭제하지 않도록 같은 조건을 UPDATE에서 다시 확인한다
+    static final String DELETE_QUESTION = "update question set deleted = true, updated_at = current_timestamp() " +
+            "where id = ? and deleted = false " +
+            "and not exists (select 1 from answer a left join ns_user aw on aw.id = a.writer_id " +
+            "where a.question_id = question.id and a.deleted = false and (aw.user_id is null or aw.user_id <> ?))";
+    static final String DELETE_ANSWERS = "update answer set deleted = true, updated_at = current_timestamp() where question_id = ? and deleted = false";
+
+    private final JdbcOperations jdbcTemplate;
+
+    public JdbcQuestionRepository(JdbcOperations jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
     @Override
     public Optional<Question> findById(Long id) {
-        return Optional.empty();
+        return Optional.ofNullable(jdbcTemplate.query(FIND_BY_ID, new QuestionExtractor(), id));
+    }
+
+    // 다른 사람이 쓴 답변은 하나라도 있으면 되므로 답변 수와 관계없이 EXISTS 한 번으로 확인한다
+    @Override
+    public Optional<QuestionDeletion> findDeletion(Long id, NsUser loginUser) {
+        return jdbcTemplate.query(FIND_DELETION, (rs, rowNum) -> new QuestionDeletion(id, writer(rs), rs.getBoolean(3)),
+                        userIdOf(loginUser), id)
+                .stream()
+                .findFirst();
+    }
+
+    private static NsUser writer(ResultSet rs) throws SQLException {
+        String userId = rs.getString(2);
+        if (userId == null) {
+            return null;
+        }
+        return new NsUser(rs.getLong(1), userId, null, null, null);
+    }
+
+    @Override
+    public int deleteWithAnswers(Long id, NsUser loginUser) {
+        int updated = jdbcTemplate.update(DELETE_QUESTION, id, userIdOf(loginUser));
+        if (updated == 0) {
+            return 0;
+        }
+        return updated + jdbcTemplate.update(DELETE_ANSWERS, id);
+    }
+
+    // 도메인의 matchUser처럼 로그인 아이디로 비교한다. null을 바인딩하면 비교가 항상 거짓이 되어 남의 답변을 놓친다
+    private static String userIdOf(NsUser loginUser) {
+        if (loginUser.getUserId() == null) {
+            throw new IllegalArgumentException("loginUser must have a userId");
+        }
+        return loginUser.getUserId();
+    }
+
+    // OFFSET 대신 마지막으로 본 (created_at, id) 다음부터 읽으므로 페이지가 뒤로 가도 비용이 일정하다
+    @Override
+    public List<QuestionSummary> findSummaries(QuestionCursor after, int size) {
+        RowMapper<QuestionSummary> rowMapper = (rs, rowNum) -> new QuestionSummary(
+                rs.getLong(1),
+                rs.getString(2),
+                rs.getString(3),
+                rs.getString(4),
+                rs.getInt(5),
+                rs.getObject(6, LocalDateTime.class));
+        if (after == null) {
+            return jdbcTemplate.query(SELECT_SUMMARIES + ORDER_SUMMARIES, rowMapper, size);
+        }
+        return jdbcTemplate.query(SELECT_SUMMARIES + AFTER_CURSOR + ORDER_SUMMARIES, rowMapper, after.getCreatedAt(), after.getCreatedAt(), after.getId(), size);
+    }
+
+    private static class QuestionExtractor implements ResultSetExtractor<Question> {
+        private static final int WRITER = 4;
+        private static final int ANSWER = WRITER + Writers.COLUMN_COUNT;
+        private static final int ANSWER_WRITER = ANSWER + 2;
+
+        private final Writers writers = new Writers();
+
+        // 질문 컬럼(본문 CLOB 포함)은 첫 행에서만 읽고, 이후 행에서는 답변 컬럼만 읽는다.
+        // 작성자가 없는 답변은 Answer를 만들 수 없으므로 답변 저장소의 inner join과 같이 건너뛴다
+        @Override
+        public Question extractData(ResultSet rs) throws SQLException {
+            if (!rs.next()) {
+                return null;
+            }
+            Question question = new Question(rs.getLong(1), writers.get(rs, WRITER), rs.getString(2), rs.getString(3));
+            do {
+                long answerId = rs.getLong(ANSWER);
+                if (rs.wasNull()) {
+                    continue;
+                }
+                NsUser answerWriter = writers.get(rs, ANSWER_WRITER);
+                if (answerWriter != null) {
+                    question.addAnswer(new Answer(answerId, answerWriter, question, rs.getString(ANSWER + 1)));
+                }
+            } while (rs.next());
+            return question;
+        }
     }
 }
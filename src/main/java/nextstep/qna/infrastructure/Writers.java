@@ -0,0 +1,40 @@
+package nextstep.qna.infrastructure;
+
+import nextstep.users.domain.NsUser;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+// 같은 작성자가 여러 행에 나와도 NsUser는 한 번만 만든다
+final class Writers {
+    static final String COLUMNS = "%1$s.id, %1$s.user_id, %1$s.password, %1$s.name, %1$s.email, %1$s.created_at, %1$s.updated_at";
+    static final int COLUMN_COUNT = 7;
+
+    private final Map<Long, NsUser> writers = new HashMap<>();
+
+    static String columns(String alias) {
+        return String.format(COLUMNS, alias);
+    }
+
+    NsUser get(ResultSet rs, int column) throws SQLException {
+        long id = rs.getLong(column);
+        if (rs.wasNull()) {
+            return null;
+        }
+        NsUser writer = writers.get(id);
+        if (writer == null) {
+            writer = new NsUser(id,
+                    rs.getString(column + 1),
+                    rs.getString(column + 2),
+                    rs.getString(column + 3),
+                    rs.getString(column + 4),
+                    rs.getObject(column + 5, LocalDateTime.class),
+                    rs.getObject(column + 6, LocalDateTime.class));
+            writers.put(id, writer);
+        }
+        return writer;
+    }
+}
@@ -12,6 +12,7 @@ import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.annotation.Resource;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Service("deleteHistoryService")
@@ -19,8 +20,9 @@ public class DeleteHistoryService {
     @Resource(name = "deleteHistoryRepository")
     private DeleteHistoryRepository deleteHistoryRepository;
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void saveAll(List<DeleteHistory> deleteHistories) {
-        deleteHistoryRepository.saveAll(deleteHistories);
+    // 삭제 처리와 같은 트랜잭션에서 실행해야 이력과 삭제 상태가 함께 커밋되거나 롤백된다
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int saveAllByQuestion(Long questionId) {
+        return deleteHistoryRepository.saveAllByQuestion(questionId, LocalDateTime.now());
     }
 }
@@ -15,6 +15,8 @@ import java.util.stream.Collectors;
 
 @Service("qnaService")
 public class QnAService {
+    private static final int MAX_PAGE_SIZE = 100;
+
     @Resource(name = "questionRepository")
     private QuestionRepository questionRepository;
 
@@ -24,12 +26,25 @@ public class QnAService {
     @Resource(name = "deleteHistoryService")
     private DeleteHistoryService deleteHistoryService;
 
-    @Transactional
+    // 답변 수와 관계없이 검증 1회, 이력 INSERT ... SELECT 1회, UPDATE 2회로 삭제한다.
+    // 검증 뒤에 다른 사람의 답변이 달려 질문이 삭제되지 않으면 먼저 기록한 이력도 롤백한다
+    @Transactional(rollbackFor = CannotDeleteException.class)
     public void deleteQuestion(NsUser loginUser, long questionId) throws CannotDeleteException {
-        Question question = questionRepository.findById(questionId).orElseThrow(NotFoundException::new);
+        QuestionDeletion deletion = questionRepository.findDeletion(questionId, loginUser).orElseThrow(NotFoundException::new);
+        deletion.validate(loginUser);
 
-        List<DeleteHistory> deleted = question.delete(loginUser);
+        deleteHistoryService.saveAllByQuestion(questionId);
+        if (questionRepository.deleteWithAnswers(questionId, loginUser) == 0) {
+            throw new CannotDeleteException("다른 사람이 쓴 답변이 있어 삭제할 수 없습니다.");
+        }
+    }
 
-        deleteHistoryService.saveAll(deleted);
+    // 첫 페이지는 after 없이 조회하고, 다음 페이지는 직전 페이지 마지막 요약의 커서로 조회한다
+    @Transactional(readOnly = true)
+    public List<QuestionSummary> findQuestions(QuestionCursor after, int size) {
+        if (size <= 0 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        return questionRepository.findSummaries(after, size);
     }
 }
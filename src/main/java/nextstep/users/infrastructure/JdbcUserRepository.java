@@ -12,6 +12,8 @@ import java.util.Optional;
 
 @Repository("userRepository")
 public class JdbcUserRepository implements UserRepository {
+    static final String FIND_BY_USER_ID = "select id, user_id, password, name, email, created_at, updated_at from ns_user where user_id = ?";
+
     private JdbcOperations jdbcTemplate;
 
     public JdbcUserRepository(JdbcOperations jdbcTemplate) {
@@ -20,7 +22,6 @@ public class JdbcUserRepository implements UserRepository {
 
     @Override
     public Optional<NsUser> findByUserId(String userId) {
-        String sql = "select id, user_id, password, name, email, created_at, updated_at from ns_user where user_id = ?";
         RowMapper<NsUser> rowMapper = (rs, rowNum) -> new NsUser(
                 rs.getLong(1),
                 rs.getString(2),
@@ -29,7 +30,7 @@ public class JdbcUserRepository implements UserRepository {
                 rs.getString(5),
                 toLocalDateTime(rs.getTimestamp(6)),
                 toLocalDateTime(rs.getTimestamp(7)));
-        return Optional.ofNullable(jdbcTemplate.queryForObject(sql, rowMapper, userId));
+        return Optional.ofNullable(jdbcTemplate.queryForObject(FIND_BY_USER_ID, rowMapper, userId));
     }
 
     private LocalDateTime toLocalDateTime(Timestamp timestamp) {
@@ -21,12 +21,15 @@ create table session
     session_progress_status varchar(100),
     session_recruit_status  varchar(100),
     capacity                integer,
+    seats_taken             integer default 0 not null,
     price                   bigint,
     created_at              timestamp    not null,
     updated_at              timestamp,
     primary key (id)
 );
 
+create index idx_session_course_id on session (course_id);
+
 create table image
 (
     id         bigint generated by default as identity,
@@ -40,20 +43,22 @@ create table image
     primary key (id)
 );
 
+create index idx_image_session_id on image (session_id);
+
 create table student
 (
     ns_user_id bigint,
     session_id bigint,
     amount     bigint,
     status     varchar(10),
-    primary key (ns_user_id)
+    primary key (session_id, ns_user_id)
 );
 
 create table lecturer
 (
     ns_user_id bigint,
     session_id bigint,
-    primary key (ns_user_id)
+    primary key (session_id, ns_user_id)
 );
 
 create table ns_user
@@ -68,6 +73,8 @@ create table ns_user
     primary key (id)
 );
 
+create unique index idx_ns_user_user_id on ns_user (user_id);
+
 create table question
 (
     id         bigint generated by default as identity,
@@ -80,6 +87,9 @@ create table question
     primary key (id)
 );
 
+-- H2는 부분 인덱스를 지원하지 않으므로 deleted를 앞에 두어 삭제되지 않은 질문만 최신순으로 훑는다
+create index idx_question_deleted_created_at on question (deleted, created_at, id);
+
 create table answer
 (
     id          bigint generated by default as identity,
@@ -92,6 +102,9 @@ create table answer
     primary key (id)
 );
 
+-- 다른 사람 답변 확인(EXISTS)과 답변 수 세기가 테이블을 읽지 않도록 writer_id까지 담는다
+create index idx_answer_question_id on answer (question_id, deleted, writer_id);
+
 create table delete_history
 (
     id            bigint not null,
@@ -101,3 +114,6 @@ create table delete_history
     deleted_by_id bigint,
     primary key (id)
 );
+
+-- delete_history의 id는 모두 이 시퀀스에서 받는다. cache 만큼 메모리에 미리 받아 두므로 행마다 시퀀스를 갱신하지 않는다
+create sequence delete_history_seq start with 1 cache 1000;
@@ -0,0 +1,54 @@
+package nextstep.courses.domain;
+
+import nextstep.courses.domain.session.SessionType;
+import nextstep.courses.domain.student.StudentStatus;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class EnumCodecTest {
+    private final EnumCodec<StudentStatus> codec = EnumCodec.of(StudentStatus.class);
+
+    @Test
+    @DisplayName("이름은 대소문자 구분 없이 디코딩")
+    void decodeTest() {
+        Assertions.assertThat(codec.decode("ACCEPTED")).isEqualTo(StudentStatus.ACCEPTED);
+        Assertions.assertThat(codec.decode("accepted")).isEqualTo(StudentStatus.ACCEPTED);
+        Assertions.assertThat(codec.decode("unknown")).isNull();
+        Assertions.assertThat(codec.decode((String) null)).isNull();
+    }
+
+    @Test
+    @DisplayName("정확히 같은 이름만 디코딩")
+    void decodeExactTest() {
+        Assertions.assertThat(codec.decodeExact("ACCEPTED")).isEqualTo(StudentStatus.ACCEPTED);
+        Assertions.assertThat(codec.decodeExact("accepted")).isNull();
+        Assertions.assertThat(codec.decodeExact(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("SessionType은 이전처럼 대소문자를 구분")
+    void sessionTypeIsCaseSensitive() {
+        Assertions.assertThat(SessionType.of("PAID")).isEqualTo(SessionType.PAID);
+        Assertions.assertThatThrownBy(() -> SessionType.of("paid"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("코드 형태로 인코딩/디코딩")
+    void codeTest() {
+        byte code = codec.toCode(StudentStatus.REJECTED);
+
+        Assertions.assertThat(codec.fromCode(code)).isEqualTo(StudentStatus.REJECTED);
+        Assertions.assertThat(codec.decode((Object) 2)).isEqualTo(StudentStatus.REJECTED);
+        Assertions.assertThat(codec.decode((Object) "rejected")).isEqualTo(StudentStatus.REJECTED);
+        Assertions.assertThat(codec.fromCode(99)).isNull();
+    }
+
+    @Test
+    @DisplayName("이름으로 인코딩")
+    void encodeTest() {
+        Assertions.assertThat(codec.encode(StudentStatus.APPLIED)).isEqualTo("APPLIED");
+        Assertions.assertThat(codec.encode(null)).isNull();
+    }
+}
@@ -23,4 +23,13 @@ public class MoneyTest {
         Assertions.assertThatThrownBy(() -> new Money(price))
                 .isInstanceOf(IllegalArgumentException.class);
     }
+
+    @Test
+    @DisplayName("Money.of 는 자주 쓰이는 값을 공유한다")
+    void ofTest() {
+        Assertions.assertThat(Money.of(200_000L)).isSameAs(Money.of(200_000L));
+        Assertions.assertThat(Money.of(1_234L)).isEqualTo(new Money(1_234L));
+        Assertions.assertThatThrownBy(() -> Money.of(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
 }
@@ -111,6 +111,25 @@ public class PaidSessionTest {
         }
     }
 
+    @Test
+    @DisplayName("PaidSession 좌석 수 - 등록, 승인, 거절에 따라 갱신")
+    void seatCountTest() {
+        PaidSession paidSession = new PaidSession(id, title, sessionDate, new ArrayList<>(List.of(image)), SessionType.PAID, SessionStatus.init(),
+                new ArrayList<>(List.of(new Student(3L, 200_000L, StudentStatus.REJECTED))), LecturerTest.testLecturer, new SessionCapacity(2), new Money(200_000L));
+        paidSession.open();
+        Assertions.assertThat(paidSession.getSeatCount()).isZero();
+
+        paidSession.register(RegistrationTest.REGISTRATION);
+        paidSession.register(RegistrationTest.REGISTRATION2);
+        Assertions.assertThat(paidSession.getSeatCount()).isEqualTo(2);
+
+        paidSession.rejectStudents(LecturerTest.testLecturer, List.of(Student.of(RegistrationTest.REGISTRATION2)));
+        Assertions.assertThat(paidSession.getSeatCount()).isEqualTo(1);
+
+        paidSession.acceptStudents(LecturerTest.testLecturer, List.of(Student.of(RegistrationTest.REGISTRATION)));
+        Assertions.assertThat(paidSession.getSeatCount()).isEqualTo(1);
+    }
+
     @Test
     @DisplayName("PaidSession 수강 신청 - 강의가 모집중이 아닐때 수간신청 체크")
     void checkRegisterNotOpenPaidSessionTest() {
@@ -200,4 +219,47 @@ public class PaidSessionTest {
 
         Assertions.assertThat(paidSession.getSessionStatus()).isEqualTo(new SessionStatus(SessionProgressStatus.END, SessionRecruitStatus.NON_RECRUITMENT));
     }
+
+    @Test
+    @DisplayName("PaidSession 변경된 수강생만 추적")
+    void trackStudentChangesTest() {
+        Student registered = new Student(200_000L, NsUserTest.SANJIGI.getId());
+        PaidSession paidSession = new PaidSession(id, title, sessionDate, new ArrayList<>(List.of(image)), SessionType.PAID,
+                SessionStatus.init(), new ArrayList<>(List.of(registered)), LecturerTest.testLecturer, new SessionCapacity(2), new Money(200_000L));
+        paidSession.open();
+
+        paidSession.register(RegistrationTest.REGISTRATION);
+        paidSession.acceptStudents(LecturerTest.testLecturer, List.of(registered, Student.of(RegistrationTest.REGISTRATION)));
+
+        Assertions.assertThat(paidSession.getNewStudents()).containsExactly(Student.of(RegistrationTest.REGISTRATION));
+        Assertions.assertThat(paidSession.getChangedStudents()).containsExactly(registered);
+
+        paidSession.clearStudentChanges();
+
+        Assertions.assertThat(paidSession.getNewStudents()).isEmpty();
+        Assertions.assertThat(paidSession.getChangedStudents()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("PaidSession 수강 신청 - 중복 신청 체크")
+    void checkDuplicateRegisterPaidSessionTest() {
+        PaidSession paidSession = new PaidSession(id, title, new ArrayList<>(List.of(image)), sessionDate, new SessionCapacity(2), new Money(200_000L));
+        paidSession.open();
+        paidSession.register(RegistrationTest.REGISTRATION);
+
+        Assertions.assertThatThrownBy(() -> paidSession.register(RegistrationTest.REGISTRATION))
+                .isInstanceOf(IllegalArgumentException.class);
+        Assertions.assertThat(paidSession.getStudentCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("PaidSession 수강생 조회")
+    void findStudentTest() {
+        PaidSession paidSession = new PaidSession(id, title, new ArrayList<>(List.of(image)), sessionDate, new SessionCapacity(2), new Money(200_000L));
+        paidSession.open();
+        paidSession.register(RegistrationTest.REGISTRATION);
+
+        Assertions.assertThat(paidSession.findStudent(NsUserTest.JAVAJIGI.getId())).contains(Student.of(RegistrationTest.REGISTRATION));
+        Assertions.assertThat(paidSession.findStudent(NsUserTest.SANJIGI.getId())).isEmpty();
+    }
 }
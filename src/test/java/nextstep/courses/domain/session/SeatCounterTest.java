@@ -0,0 +1,70 @@
+package nextstep.courses.domain.session;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class SeatCounterTest {
+    @Test
+    @DisplayName("정원까지만 좌석 예약")
+    void tryReserveTest() {
+        SeatCounter seatCounter = new SeatCounter();
+
+        Assertions.assertThat(seatCounter.tryReserve(1L, 1, 3, 1)).isTrue();
+        Assertions.assertThat(seatCounter.tryReserve(1L, 1, 3, 1)).isTrue();
+        Assertions.assertThat(seatCounter.tryReserve(1L, 1, 3, 1)).isFalse();
+        Assertions.assertThat(seatCounter.getTaken(1L)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("좌석 반납")
+    void releaseTest() {
+        SeatCounter seatCounter = new SeatCounter();
+        seatCounter.tryReserve(1L, 0, 1, 1);
+
+        seatCounter.release(1L, 1);
+
+        Assertions.assertThat(seatCounter.getTaken(1L)).isZero();
+        Assertions.assertThat(seatCounter.tryReserve(1L, 0, 1, 1)).isTrue();
+    }
+
+    @Test
+    @DisplayName("처음 예약할 때만 초기화하고 이후 예약에서 넘긴 좌석 수는 무시")
+    void keepCountAcrossReservationsTest() {
+        SeatCounter seatCounter = new SeatCounter();
+        seatCounter.tryReserve(1L, 2, 3, 1);
+
+        Assertions.assertThat(seatCounter.tryReserve(1L, 0, 3, 1)).isFalse();
+        Assertions.assertThat(seatCounter.getTaken(1L)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("동시 신청 시 정원만큼만 예약")
+    void concurrentReserveTest() throws Exception {
+        SeatCounter seatCounter = new SeatCounter();
+        int capacity = 10;
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Callable<Boolean>> tasks = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            tasks.add(() -> seatCounter.tryReserve(1L, 0, capacity, 1));
+        }
+
+        int reserved = 0;
+        for (Future<Boolean> future : executor.invokeAll(tasks)) {
+            if (future.get()) {
+                reserved++;
+            }
+        }
+        executor.shutdown();
+
+        Assertions.assertThat(reserved).isEqualTo(capacity);
+        Assertions.assertThat(seatCounter.getTaken(1L)).isEqualTo(capacity);
+    }
+}
@@ -23,4 +23,13 @@ public class SessionCapacityTest {
         Assertions.assertThatThrownBy(() -> new SessionCapacity(capacity))
                 .isInstanceOf(IllegalArgumentException.class);
     }
+
+    @Test
+    @DisplayName("SessionCapacity.of 는 자주 쓰이는 값을 공유한다")
+    void ofTest() {
+        Assertions.assertThat(SessionCapacity.of(10)).isSameAs(SessionCapacity.of(10));
+        Assertions.assertThat(SessionCapacity.of(5_000)).isEqualTo(new SessionCapacity(5_000));
+        Assertions.assertThatThrownBy(() -> SessionCapacity.of(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
 }
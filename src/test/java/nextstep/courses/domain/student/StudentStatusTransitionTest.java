@@ -0,0 +1,35 @@
+package nextstep.courses.domain.student;
+
+import nextstep.courses.domain.student.StudentStatusTransition.Outcome;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+public class StudentStatusTransitionTest {
+    @Test
+    @DisplayName("수강생별 승인 결과")
+    void acceptOutcomesTest() {
+        Map<Long, StudentStatus> currentStatuses = Map.of(
+                1L, StudentStatus.APPLIED,
+                2L, StudentStatus.ACCEPTED,
+                3L, StudentStatus.REJECTED);
+
+        StudentStatusTransition transition = StudentStatusTransition.of(StudentStatus.ACCEPTED, List.of(1L, 2L, 3L, 4L), currentStatuses);
+
+        Assertions.assertThat(transition.getOutcome(1L)).isEqualTo(Outcome.UPDATED);
+        Assertions.assertThat(transition.getOutcome(2L)).isEqualTo(Outcome.UNCHANGED);
+        Assertions.assertThat(transition.getOutcome(3L)).isEqualTo(Outcome.CONFLICT);
+        Assertions.assertThat(transition.getOutcome(4L)).isEqualTo(Outcome.NOT_FOUND);
+        Assertions.assertThat(transition.getUpdatableNsUserIds()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("신청 상태로는 변경 불가")
+    void checkAppliedStatusTest() {
+        Assertions.assertThatThrownBy(() -> StudentStatusTransition.of(StudentStatus.APPLIED, List.of(1L), Map.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -10,6 +10,7 @@ import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -55,4 +56,17 @@ public class ImageRepositoryTest {
         List<Image> images = imageRepository.findAllBySessionId(1L);
         assertThat(images).hasSize(2);
     }
+
+    @Test
+    void findAllBySessionIds() {
+        Image image = new Image(new ImageSize(500), ImageType.JPG, new ImagePixel(300, 200));
+        imageRepository.save(image, 1L);
+        imageRepository.save(image, 1L);
+        imageRepository.save(image, 2L);
+
+        Map<Long, List<Image>> images = imageRepository.findAllBySessionIds(List.of(1L, 2L, 3L));
+        assertThat(images.get(1L)).hasSize(2);
+        assertThat(images.get(2L)).hasSize(1);
+        assertThat(images).doesNotContainKey(3L);
+    }
 }
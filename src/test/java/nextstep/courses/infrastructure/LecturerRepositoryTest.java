@@ -11,6 +11,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 
+import java.util.List;
+import java.util.Map;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 @JdbcTest
@@ -33,7 +36,34 @@ public class LecturerRepositoryTest {
         Lecturer lecturer = new Lecturer(NsUserTest.SANJIGI.getId());
         int save = lecturerRepository.save(lecturer, sessionId);
         assertThat(save).isEqualTo(1);
-        Lecturer foundLecturer = lecturerRepository.findByNsUserId(NsUserTest.SANJIGI.getId()).orElseThrow();
+        Lecturer foundLecturer = lecturerRepository.findBySessionIdAndNsUserId(sessionId, NsUserTest.SANJIGI.getId()).orElseThrow();
         assertThat(foundLecturer).isEqualTo(lecturer);
     }
+
+    @Test
+    void oneLecturerOnTwoSessions() {
+        Lecturer lecturer = new Lecturer(NsUserTest.SANJIGI.getId());
+        lecturerRepository.save(lecturer, 1L);
+        lecturerRepository.save(lecturer, 2L);
+
+        assertThat(lecturerRepository.findBySessionIdAndNsUserId(1L, NsUserTest.SANJIGI.getId())).contains(lecturer);
+        assertThat(lecturerRepository.findBySessionIdAndNsUserId(2L, NsUserTest.SANJIGI.getId())).contains(lecturer);
+        assertThat(lecturerRepository.findBySessionIdAndNsUserId(3L, NsUserTest.SANJIGI.getId())).isEmpty();
+        assertThat(lecturerRepository.findBySessionId(2L)).contains(lecturer);
+    }
+
+    @Test
+    void findBySessionIdWithoutLecturer() {
+        assertThat(lecturerRepository.findBySessionId(1L)).isEmpty();
+    }
+
+    @Test
+    void findAllBySessionIds() {
+        Lecturer lecturer = new Lecturer(NsUserTest.SANJIGI.getId());
+        lecturerRepository.save(lecturer, 1L);
+
+        Map<Long, Lecturer> lecturers = lecturerRepository.findAllBySessionIds(List.of(1L, 2L));
+        assertThat(lecturers).containsOnlyKeys(1L);
+        assertThat(lecturers.get(1L)).isEqualTo(lecturer);
+    }
 }
@@ -0,0 +1,80 @@
+package nextstep.courses.infrastructure;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 저장소가 실제로 실행하는 SQL 상수의 실행 계획을 확인한다. RECONCILE_SEATS는 기동 시 전체 강의를 맞추는 문장이라 제외한다
+@JdbcTest
+public class QueryPlanTest {
+    private static final Logger LOGGER = LoggerFactory.getLogger(QueryPlanTest.class);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    static Stream<Arguments> namedQueries() {
+        return Stream.of(
+                Arguments.of(JdbcCourseRepository.FIND_BY_ID, Map.of("id", 1L)),
+                Arguments.of(JdbcSessionRepository.FIND_BY_ID, Map.of("id", 1L)),
+                Arguments.of(JdbcSessionRepository.FIND_ALL_BY_COURSE_ID, Map.of("courseId", 1L)),
+                Arguments.of(JdbcSessionRepository.RESERVE_SEATS, Map.of("count", 1, "id", 1L)),
+                Arguments.of(JdbcSessionRepository.RELEASE_SEATS, Map.of("count", 1, "id", 1L)),
+                Arguments.of(JdbcImageRepository.FIND_BY_ID, Map.of("id", 1L)),
+                Arguments.of(JdbcImageRepository.FIND_ALL_BY_SESSION_ID, Map.of("sessionId", 1L)),
+                Arguments.of(JdbcImageRepository.FIND_ALL_BY_SESSION_IDS, Map.of("sessionIds", List.of(1L, 2L))),
+                Arguments.of(JdbcStudentRepository.FIND_BY_ID, Map.of("nsUserId", 1L, "sessionId", 1L)),
+                Arguments.of(JdbcStudentRepository.FIND_ALL_BY_SESSION_ID, Map.of("sessionId", 1L)),
+                Arguments.of(JdbcStudentRepository.FIND_ALL_BY_SESSION_IDS, Map.of("sessionIds", List.of(1L, 2L))),
+                Arguments.of(JdbcStudentRepository.FIND_STATUSES_BY_NS_USER_IDS, Map.of("sessionId", 1L, "nsUserIds", List.of(1L, 2L))),
+                Arguments.of(JdbcStudentRepository.UPDATE_STATUS, Map.of("status", "ACCEPTED", "nsUserId", 1L, "sessionId", 1L)),
+                Arguments.of(JdbcStudentRepository.UPDATE_STATUS_BY_NS_USER_IDS, Map.of("to", "ACCEPTED", "sessionId", 1L, "nsUserIds", List.of(1L, 2L), "from", "APPLIED")),
+                Arguments.of(JdbcLecturerRepository.FIND_BY_SESSION_ID_AND_NS_USER_ID, Map.of("sessionId", 1L, "nsUserId", 1L)),
+                Arguments.of(JdbcLecturerRepository.FIND_BY_SESSION_ID, Map.of("sessionId", 1L)),
+                Arguments.of(JdbcLecturerRepository.FIND_ALL_BY_SESSION_IDS, Map.of("sessionIds", List.of(1L, 2L)))
+        );
+    }
+
+    static Stream<Arguments> positionalQueries() {
+        return Stream.of(
+                Arguments.of(JdbcSessionRepository.STREAM_ALL_BY_COURSE_ID, List.of(1L)),
+                Arguments.of(JdbcStudentRepository.STREAM_ALL_BY_SESSION_ID, List.of(1L)),
+                Arguments.of(JdbcRosterExporter.EXPORT_BY_SESSION_ID, List.of(1L)),
+                Arguments.of(JdbcRosterExporter.EXPORT_BY_SESSION_ID + JdbcRosterExporter.STATUS_FILTER, List.of(1L, "ACCEPTED")),
+                Arguments.of(JdbcRosterExporter.EXPORT_BY_COURSE_ID, List.of(1L)),
+                Arguments.of(JdbcRosterExporter.EXPORT_BY_COURSE_ID + JdbcRosterExporter.STATUS_FILTER, List.of(1L, "ACCEPTED"))
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("namedQueries")
+    void useIndex(String sql, Map<String, Object> params) {
+        assertIndexed(namedParameterJdbcTemplate.queryForObject("explain " + sql, params, String.class));
+    }
+
+    @ParameterizedTest
+    @MethodSource("positionalQueries")
+    void useIndexWithPositionalParameters(String sql, List<Object> args) {
+        assertIndexed(jdbcTemplate.queryForObject("explain " + sql, String.class, args.toArray()));
+    }
+
+    private static void assertIndexed(String plan) {
+        LOGGER.debug("Plan: {}", plan);
+
+        assertThat(plan).doesNotContain("tableScan");
+    }
+}
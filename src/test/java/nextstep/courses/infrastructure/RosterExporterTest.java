@@ -0,0 +1,66 @@
+package nextstep.courses.infrastructure;
+
+import nextstep.courses.domain.student.RosterExporter;
+import nextstep.courses.domain.student.RosterFormat;
+import nextstep.courses.domain.student.Student;
+import nextstep.courses.domain.student.StudentStatus;
+import nextstep.users.domain.NsUserTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+
+@JdbcTest
+public class RosterExporterTest {
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    private RosterExporter rosterExporter;
+
+    @BeforeEach
+    void setUp() {
+        rosterExporter = new JdbcRosterExporter(namedParameterJdbcTemplate, 1);
+
+        JdbcStudentRepository studentRepository = new JdbcStudentRepository(namedParameterJdbcTemplate);
+        studentRepository.saveAll(Arrays.asList(
+                new Student(NsUserTest.JAVAJIGI.getId(), 100_000L, StudentStatus.ACCEPTED),
+                new Student(NsUserTest.SANJIGI.getId(), 100_000L, StudentStatus.APPLIED)
+        ), 1L);
+    }
+
+    @Test
+    void exportCsv() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long count = rosterExporter.exportBySessionId(1L, StudentStatus.ACCEPTED, RosterFormat.CSV, false, Channels.newChannel(out));
+
+        Assertions.assertThat(count).isEqualTo(1);
+        Assertions.assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "session_id,ns_user_id,user_id,name,email,amount,status\n" +
+                        "1,1,javajigi,자바지기,javajigi@slipp.net,100000,ACCEPTED\n");
+    }
+
+    @Test
+    void exportNdjsonWithGzip() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long count = rosterExporter.exportBySessionId(1L, null, RosterFormat.NDJSON, true, Channels.newChannel(out));
+
+        String json = new String(new GZIPInputStream(new ByteArrayInputStream(out.toByteArray())).readAllBytes(), StandardCharsets.UTF_8);
+        Assertions.assertThat(count).isEqualTo(2);
+        Assertions.assertThat(json.split("\n")).containsExactlyInAnyOrder(
+                "{\"sessionId\":1,\"nsUserId\":1,\"userId\":\"javajigi\",\"name\":\"자바지기\",\"email\":\"javajigi@slipp.net\",\"amount\":100000,\"status\":\"ACCEPTED\"}",
+                "{\"sessionId\":1,\"nsUserId\":2,\"userId\":\"sanjigi\",\"name\":\"산지기\",\"email\":\"sanjigi@slipp.net\",\"amount\":100000,\"status\":\"APPLIED\"}"
+        );
+    }
+}
@@ -16,6 +16,7 @@ import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Stream;
 
 @TestMethodOrder(value = MethodOrderer.OrderAnnotation.class)
 @JdbcTest
@@ -76,4 +77,75 @@ public class SessionRepositoryTest {
 
         Assertions.assertThat(sessions).hasSize(2);
     }
+
+    @Order(3)
+    @Test
+    void reserveSeatsTest() {
+        LocalDateTime start = LocalDateTime.of(2024, 10, 10, 10, 10);
+        LocalDateTime end = LocalDateTime.of(2024, 10, 10, 10, 11);
+        PaidSession paidSession = new PaidSession("TDD", new ArrayList<>(), new SessionDate(start, end), new SessionCapacity(2), new Money(200_000L));
+        long sessionId = sessionRepository.save(paidSession, 1L);
+
+        Assertions.assertThat(sessionRepository.reserveSeats(sessionId, 1)).isTrue();
+        Assertions.assertThat(sessionRepository.reserveSeats(sessionId, 2)).isFalse();
+        Assertions.assertThat(sessionRepository.reserveSeats(sessionId, 1)).isTrue();
+        Assertions.assertThat(sessionRepository.reserveSeats(sessionId, 1)).isFalse();
+
+        sessionRepository.releaseSeats(sessionId, 1);
+        Assertions.assertThat(sessionRepository.reserveSeats(sessionId, 1)).isTrue();
+    }
+
+    @Order(4)
+    @Test
+    void reconcileSeatsTest() {
+        LocalDateTime start = LocalDateTime.of(2024, 10, 10, 10, 10);
+        LocalDateTime end = LocalDateTime.of(2024, 10, 10, 10, 11);
+        PaidSession paidSession = new PaidSession("TDD", new ArrayList<>(), new SessionDate(start, end), new SessionCapacity(2), new Money(200_000L));
+        long sessionId = sessionRepository.save(paidSession, 1L);
+        namedParameterJdbcTemplate.getJdbcOperations().update("insert into student (ns_user_id, session_id, amount, status) values (1, ?, 200000, 'APPLIED'), (2, ?, 200000, 'REJECTED')", sessionId, sessionId);
+
+        sessionRepository.reconcileSeats();
+
+        Assertions.assertThat(sessionRepository.reserveSeats(sessionId, 1)).isTrue();
+        Assertions.assertThat(sessionRepository.reserveSeats(sessionId, 1)).isFalse();
+    }
+
+    @Order(5)
+    @Test
+    void streamAllByCourseIdTest() {
+        Long courseId = 2L;
+        LocalDateTime start = LocalDateTime.of(2024, 10, 10, 10, 10);
+        LocalDateTime end = LocalDateTime.of(2024, 10, 10, 10, 11);
+        SessionDate sessionDate = new SessionDate(start, end);
+        sessionRepository.save(new PaidSession("TDD", new ArrayList<>(), sessionDate, new SessionCapacity(10), new Money(200_000L)), courseId);
+        sessionRepository.save(new FreeSession("TDD", sessionDate, new ArrayList<>()), courseId);
+
+        try (Stream<Session> sessions = sessionRepository.streamAllByCourseId(courseId, 1)) {
+            Assertions.assertThat(sessions.map(Session::getSessionType)).containsExactlyInAnyOrder(SessionType.PAID, SessionType.FREE);
+        }
+
+        List<Session> visited = new ArrayList<>();
+        sessionRepository.forEachByCourseId(courseId, 1, visited::add);
+        Assertions.assertThat(visited).hasSize(2);
+    }
+
+    @Order(6)
+    @Test
+    void saveAllTest() {
+        LocalDateTime start = LocalDateTime.of(2024, 10, 10, 10, 10);
+        LocalDateTime end = LocalDateTime.of(2024, 10, 10, 10, 11);
+        SessionDate sessionDate = new SessionDate(start, end);
+        List<Session> sessions = List.of(
+                new PaidSession("TDD", new ArrayList<>(), sessionDate, new SessionCapacity(10), new Money(200_000L)),
+                new FreeSession("TDD", sessionDate, new ArrayList<>()),
+                new FreeSession("ATDD", sessionDate, new ArrayList<>())
+        );
+
+        List<Long> ids = sessionRepository.saveAll(sessions, List.of(3L, 3L, 4L));
+
+        Assertions.assertThat(ids).hasSize(3).doesNotHaveDuplicates();
+        Assertions.assertThat(sessionRepository.findById(ids.get(0)).orElseThrow().getSessionType()).isEqualTo(SessionType.PAID);
+        Assertions.assertThat(sessionRepository.findById(ids.get(2)).orElseThrow().getTitle()).isEqualTo("ATDD");
+        Assertions.assertThat(sessionRepository.findAllByCourseId(3L)).hasSize(2);
+    }
 }
@@ -14,8 +14,11 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -64,6 +67,21 @@ public class StudentRepositoryTest {
         assertThat(students).hasSize(2);
     }
 
+    @Test
+    void streamAllBySessionId() {
+        Long sessionId = 1L;
+        Long amount = 100_000L;
+        studentRepository.saveAll(Arrays.asList(new Student(amount, NsUserTest.SANJIGI.getId()), new Student(amount, NsUserTest.JAVAJIGI.getId())), sessionId);
+
+        try (Stream<Student> students = studentRepository.streamAllBySessionId(sessionId, 1)) {
+            assertThat(students.map(Student::getNsUserId)).containsExactlyInAnyOrder(NsUserTest.SANJIGI.getId(), NsUserTest.JAVAJIGI.getId());
+        }
+
+        List<Student> visited = new ArrayList<>();
+        studentRepository.forEachBySessionId(sessionId, 1, visited::add);
+        assertThat(visited).hasSize(2);
+    }
+
     @Test
     void saveAll() {
         Long sessionId = 1L;
@@ -87,4 +105,52 @@ public class StudentRepositoryTest {
         Student updatedStudent = studentRepository.updateStatus(student, sessionId);
         Assertions.assertThat(updatedStudent.getStatus()).isEqualTo(StudentStatus.ACCEPTED);
     }
+
+    @Test
+    void findAllBySessionIds() {
+        Long amount = 100_000L;
+        studentRepository.save(new Student(amount, NsUserTest.SANJIGI.getId()), 1L);
+        studentRepository.save(new Student(amount, NsUserTest.JAVAJIGI.getId()), 2L);
+
+        Map<Long, List<Student>> students = studentRepository.findAllBySessionIds(List.of(1L, 2L));
+        assertThat(students.get(1L)).containsExactly(new Student(amount, NsUserTest.SANJIGI.getId()));
+        assertThat(students.get(2L)).containsExactly(new Student(amount, NsUserTest.JAVAJIGI.getId()));
+    }
+
+    @Test
+    void updateStatusAll() {
+        Long sessionId = 1L;
+        Long amount = 100_000L;
+        Student student1 = new Student(amount, NsUserTest.SANJIGI.getId());
+        Student student2 = new Student(amount, NsUserTest.JAVAJIGI.getId());
+        studentRepository.saveAll(Arrays.asList(student1, student2), sessionId);
+
+        student1.accept();
+        student2.reject();
+        int[] updated = studentRepository.updateStatusAll(Arrays.asList(student1, student2), sessionId);
+
+        assertThat(updated).containsExactly(1, 1);
+        assertThat(studentRepository.findById(student1.getNsUserId(), sessionId).orElseThrow().getStatus()).isEqualTo(StudentStatus.ACCEPTED);
+        assertThat(studentRepository.findById(student2.getNsUserId(), sessionId).orElseThrow().getStatus()).isEqualTo(StudentStatus.REJECTED);
+    }
+
+    @Test
+    void updateStatusByNsUserIds() {
+        Long sessionId = 1L;
+        Long amount = 100_000L;
+        Student applied = new Student(amount, NsUserTest.SANJIGI.getId());
+        Student rejected = new Student(NsUserTest.JAVAJIGI.getId(), amount, StudentStatus.REJECTED);
+        studentRepository.saveAll(Arrays.asList(applied, rejected), sessionId);
+        List<Long> nsUserIds = List.of(applied.getNsUserId(), rejected.getNsUserId());
+
+        Map<Long, StudentStatus> statuses = studentRepository.findStatusesByNsUserIds(sessionId, nsUserIds);
+        assertThat(statuses).containsEntry(applied.getNsUserId(), StudentStatus.APPLIED)
+                .containsEntry(rejected.getNsUserId(), StudentStatus.REJECTED);
+
+        int updated = studentRepository.updateStatusByNsUserIds(sessionId, nsUserIds, StudentStatus.APPLIED, StudentStatus.ACCEPTED);
+
+        assertThat(updated).isEqualTo(1);
+        assertThat(studentRepository.findById(applied.getNsUserId(), sessionId).orElseThrow().getStatus()).isEqualTo(StudentStatus.ACCEPTED);
+        assertThat(studentRepository.findById(rejected.getNsUserId(), sessionId).orElseThrow().getStatus()).isEqualTo(StudentStatus.REJECTED);
+    }
 }
@@ -0,0 +1,79 @@
+package nextstep.courses.service;
+
+import nextstep.courses.domain.session.Session;
+import nextstep.payments.domain.Payment;
+import nextstep.users.domain.NsUserTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class AsyncSessionServiceTest {
+    @Mock
+    SessionService sessionService;
+    @Mock
+    Session session;
+
+    private AsyncSessionService asyncSessionService;
+
+    @AfterEach
+    void tearDown() {
+        asyncSessionService.shutdown();
+    }
+
+    @Test
+    void findById() throws Exception {
+        asyncSessionService = new AsyncSessionService(sessionService, false, 2, 10);
+        when(sessionService.findById(1L)).thenReturn(session);
+
+        Session found = asyncSessionService.findById(1L).get(1, TimeUnit.SECONDS);
+
+        assertThat(found).isEqualTo(session);
+        assertThat(asyncSessionService.isVirtualThreads()).isFalse();
+    }
+
+    @Test
+    void registerFailure() {
+        asyncSessionService = new AsyncSessionService(sessionService, true, 2, 10);
+        when(sessionService.register(any(), any(), any())).thenThrow(new IllegalStateException("Can't register session"));
+
+        CompletableFuture<Session> future = asyncSessionService.register(1L, NsUserTest.JAVAJIGI,
+                new Payment("1", 1L, NsUserTest.JAVAJIGI.getId(), 200_000L));
+
+        assertThatThrownBy(() -> future.get(1, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void rejectWhenTooManyInFlight() throws Exception {
+        asyncSessionService = new AsyncSessionService(sessionService, false, 1, 1);
+        CountDownLatch latch = new CountDownLatch(1);
+        when(sessionService.findById(1L)).thenAnswer(invocation -> {
+            latch.await(1, TimeUnit.SECONDS);
+            return session;
+        });
+
+        CompletableFuture<Session> first = asyncSessionService.findById(1L);
+        CompletableFuture<Session> second = asyncSessionService.findById(1L);
+        latch.countDown();
+
+        assertThat(first.get(1, TimeUnit.SECONDS)).isEqualTo(session);
+        assertThatThrownBy(() -> second.get(1, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(RejectedExecutionException.class);
+    }
+}
@@ -0,0 +1,48 @@
+package nextstep.courses.service;
+
+import nextstep.courses.domain.session.FreeSession;
+import nextstep.courses.domain.session.Session;
+import nextstep.courses.domain.session.SessionDate;
+import nextstep.courses.domain.session.SessionRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class CacheEvictingSessionRepositoryTest {
+    @Mock
+    SessionRepository delegate;
+
+    private final SessionCache sessionCache = new SessionCache(10, 60);
+    private final SessionDate sessionDate = new SessionDate(LocalDateTime.of(2024, 10, 10, 10, 10), LocalDateTime.of(2024, 10, 10, 10, 11));
+
+    @Test
+    void reserveSeatsEvictsCachedSession() {
+        CacheEvictingSessionRepository sessionRepository = new CacheEvictingSessionRepository(delegate, sessionCache);
+        sessionCache.get(1L, id -> new FreeSession(id, "TDD", sessionDate, new ArrayList<>()));
+        when(delegate.reserveSeats(1L, 1)).thenReturn(true);
+
+        sessionRepository.reserveSeats(1L, 1);
+
+        assertThat(sessionCache.size()).isZero();
+    }
+
+    @Test
+    void saveEvictsCachedSession() {
+        CacheEvictingSessionRepository sessionRepository = new CacheEvictingSessionRepository(delegate, sessionCache);
+        Session session = new FreeSession("TDD", sessionDate, new ArrayList<>());
+        sessionCache.get(1L, id -> new FreeSession(id, "TDD", sessionDate, new ArrayList<>()));
+        when(delegate.save(session, 1L)).thenReturn(1L);
+
+        sessionRepository.save(session, 1L);
+
+        assertThat(sessionCache.size()).isZero();
+    }
+}
@@ -0,0 +1,101 @@
+package nextstep.courses.service;
+
+import nextstep.courses.domain.course.Course;
+import nextstep.courses.domain.course.CourseRepository;
+import nextstep.courses.domain.image.Image;
+import nextstep.courses.domain.image.ImagePixel;
+import nextstep.courses.domain.image.ImageRepository;
+import nextstep.courses.domain.image.ImageSize;
+import nextstep.courses.domain.image.ImageType;
+import nextstep.courses.domain.lecturer.LecturerRepository;
+import nextstep.courses.domain.lecturer.LecturerTest;
+import nextstep.courses.domain.session.FreeSession;
+import nextstep.courses.domain.session.SessionDate;
+import nextstep.courses.domain.session.SessionRepository;
+import nextstep.users.domain.NsUserTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class CatalogImportServiceTest {
+    @Mock
+    CourseRepository courseRepository;
+    @Mock
+    SessionRepository sessionRepository;
+    @Mock
+    ImageRepository imageRepository;
+    @Mock
+    LecturerRepository lecturerRepository;
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    private CatalogImportService catalogImportService;
+    private List<Course> courses;
+
+    @BeforeEach
+    void init() {
+        catalogImportService = new CatalogImportService(courseRepository, sessionRepository, imageRepository, lecturerRepository, transactionManager, 2);
+
+        SessionDate sessionDate = new SessionDate(LocalDateTime.of(2024, 10, 10, 10, 10), LocalDateTime.of(2024, 10, 10, 10, 11));
+        Image image = new Image(new ImageSize(1024), ImageType.GIF, new ImagePixel(300, 200));
+        courses = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Course course = new Course("TDD " + i, NsUserTest.SANJIGI.getId());
+            FreeSession session = new FreeSession("TDD", sessionDate, new ArrayList<>(List.of(image)));
+            session.assignLecturer(LecturerTest.testLecturer);
+            course.addSessions(session);
+            courses.add(course);
+        }
+    }
+
+    @Test
+    void importCoursesTest() {
+        when(courseRepository.saveAll(anyList())).thenReturn(List.of(1L, 2L), List.of(3L));
+        when(sessionRepository.saveAll(anyList(), anyList())).thenReturn(List.of(11L, 12L), List.of(13L));
+        List<Integer> progress = new ArrayList<>();
+
+        int next = catalogImportService.importCourses(courses, 0, progress::add);
+
+        Assertions.assertThat(next).isEqualTo(3);
+        Assertions.assertThat(progress).containsExactly(2, 3);
+        verify(sessionRepository).saveAll(List.of(courses.get(0).getSessions().get(0), courses.get(1).getSessions().get(0)), List.of(1L, 2L));
+        verify(lecturerRepository).saveAll(Map.of(13L, LecturerTest.testLecturer));
+        verify(imageRepository, times(2)).saveAll(any(Map.class));
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    void resumeImportTest() {
+        when(courseRepository.saveAll(anyList())).thenReturn(List.of(3L));
+        when(sessionRepository.saveAll(anyList(), anyList())).thenReturn(List.of(13L));
+
+        int next = catalogImportService.importCourses(courses, 2, committed -> {
+        });
+
+        Assertions.assertThat(next).isEqualTo(3);
+        verify(courseRepository).saveAll(List.of(courses.get(2)));
+    }
+
+    @Test
+    void importCoursesTest_WithInvalidIndex() {
+        Assertions.assertThatThrownBy(() -> catalogImportService.importCourses(courses, 4, committed -> {
+                }))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
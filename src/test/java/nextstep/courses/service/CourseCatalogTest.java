@@ -0,0 +1,185 @@
+package nextstep.courses.service;
+
+import nextstep.courses.domain.course.Course;
+import nextstep.courses.domain.session.FreeSession;
+import nextstep.courses.domain.session.Session;
+import nextstep.courses.domain.session.SessionDate;
+import nextstep.users.domain.NsUserTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CourseCatalogTest {
+    private final CourseCatalog courseCatalog = new CourseCatalog(60);
+    private final SessionDate sessionDate = new SessionDate(LocalDateTime.of(2024, 10, 10, 10, 10), LocalDateTime.of(2024, 10, 10, 10, 11));
+
+    @AfterEach
+    void tearDown() {
+        courseCatalog.shutdown();
+    }
+
+    @Test
+    void snapshotIsImmutable() {
+        Course course = courseCatalog.get(1L, this::load);
+
+        assertThatThrownBy(() -> course.getSessions().clear())
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void indexSessionsOfCourse() {
+        courseCatalog.get(1L, this::load);
+
+        assertThat(courseCatalog.findCourseIdBySessionId(10L)).isEqualTo(1L);
+        assertThat(courseCatalog.findCourseIdBySessionId(20L)).isNull();
+    }
+
+    @Test
+    void skipRefreshOfUncachedCourse() {
+        courseCatalog.refreshAsync(1L, this::load);
+
+        assertThat(courseCatalog.getVersion(1L)).isZero();
+    }
+
+    @Test
+    void skipInstallWhenChangedDuringColdLoad() {
+        Course course = courseCatalog.get(1L, courseId -> {
+            courseCatalog.refreshAsync(courseId, this::load);
+            return load(courseId);
+        });
+
+        assertThat(course.getId()).isEqualTo(1L);
+        assertThat(courseCatalog.getVersion(1L)).isZero();
+    }
+
+    @Test
+    void skipInstallWhenUnknownSessionChangedDuringColdLoad() {
+        Course course = courseCatalog.get(1L, courseId -> {
+            courseCatalog.invalidateLoading();
+            return load(courseId);
+        });
+
+        assertThat(course.getId()).isEqualTo(1L);
+        assertThat(courseCatalog.getVersion(1L)).isZero();
+    }
+
+    @Test
+    void reloadAfterTtl() {
+        CourseCatalog expiring = new CourseCatalog(0);
+        AtomicInteger loads = new AtomicInteger();
+        try {
+            expiring.get(1L, courseId -> {
+                loads.incrementAndGet();
+                return load(courseId);
+            });
+            expiring.get(1L, courseId -> {
+                loads.incrementAndGet();
+                return load(courseId);
+            });
+        } finally {
+            expiring.shutdown();
+        }
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void shareReadOnlySnapshot() {
+        Course first = courseCatalog.get(1L, this::load);
+        Course second = courseCatalog.get(1L, this::load);
+
+        assertThat(second).isSameAs(first);
+        assertThatThrownBy(() -> first.getSessions().get(0).open())
+                .isInstanceOf(IllegalStateException.class);
+        first.getSessions().get(0).getSessionStatus().openSession();
+        assertThat(second.getSessions().get(0).getSessionStatus().isApplicationAvailable()).isFalse();
+    }
+
+    @Test
+    void copyOfSnapshotSessionIsWritable() {
+        Session session = courseCatalog.get(1L, this::load).getSessions().get(0).copy();
+
+        session.open();
+
+        assertThat(session.getSessionStatus().isApplicationAvailable()).isTrue();
+    }
+
+    @Test
+    void waitForColdLoadInFlight() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        ExecutorService readers = Executors.newFixedThreadPool(2);
+        try {
+            Future<Course> first = readers.submit(() -> courseCatalog.get(1L, courseId -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                await(release);
+                return load(courseId);
+            }));
+            loading.await();
+            Future<Course> second = readers.submit(() -> courseCatalog.get(1L, courseId -> {
+                loads.incrementAndGet();
+                return load(courseId);
+            }));
+            release.countDown();
+
+            assertThat(second.get(1, TimeUnit.SECONDS)).isSameAs(first.get(1, TimeUnit.SECONDS));
+        } finally {
+            readers.shutdownNow();
+        }
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void serveExpiredSnapshotWhileReloading() throws Exception {
+        CourseCatalog expiring = new CourseCatalog(0);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService readers = Executors.newSingleThreadExecutor();
+        try {
+            Course expired = expiring.get(1L, this::load);
+            Future<Course> reloaded = readers.submit(() -> expiring.get(1L, courseId -> {
+                loading.countDown();
+                await(release);
+                return load(courseId);
+            }));
+            loading.await();
+
+            assertThat(expiring.get(1L, courseId -> {
+                throw new IllegalStateException("loaded twice");
+            })).isSameAs(expired);
+            release.countDown();
+            assertThat(reloaded.get(1, TimeUnit.SECONDS)).isNotSameAs(expired);
+        } finally {
+            readers.shutdownNow();
+            expiring.shutdown();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Course load(Long courseId) {
+        FreeSession session = new FreeSession(10L, "TDD", sessionDate, new ArrayList<>());
+        return new Course(courseId, 1L, "TDD, 클린 코드 with Java", NsUserTest.SANJIGI.getId(), LocalDateTime.now(), null, new ArrayList<>(List.of(session)));
+    }
+}
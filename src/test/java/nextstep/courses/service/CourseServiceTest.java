@@ -8,6 +8,7 @@ import nextstep.courses.domain.image.ImageSize;
 import nextstep.courses.domain.image.ImageType;
 import nextstep.courses.domain.lecturer.LecturerTest;
 import nextstep.courses.domain.session.FreeSession;
+import nextstep.courses.domain.session.SessionChangedEvent;
 import nextstep.courses.domain.session.SessionDate;
 import nextstep.users.domain.NsUserTest;
 import org.assertj.core.api.Assertions;
@@ -16,13 +17,16 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -34,6 +38,10 @@ public class CourseServiceTest {
     CourseRepository courseRepository;
     @Mock
     SessionService sessionService;
+    @Spy
+    CourseCatalog courseCatalog = new CourseCatalog(60);
+    @Mock
+    PlatformTransactionManager transactionManager;
 
     private FreeSession freeSession;
 
@@ -42,7 +50,7 @@ public class CourseServiceTest {
         Image image = new Image(new ImageSize(1024), ImageType.GIF, new ImagePixel(300, 200));
         SessionDate sessionDate = new SessionDate(LocalDateTime.of(2024, 10, 10, 10, 10), LocalDateTime.of(2024, 10, 10, 10, 11));
         String title = "TDD";
-        freeSession = new FreeSession(title, sessionDate, new ArrayList<>(List.of(image)));
+        freeSession = new FreeSession(10L, title, sessionDate, new ArrayList<>(List.of(image)));
     }
 
     @Test
@@ -68,4 +76,49 @@ public class CourseServiceTest {
         Assertions.assertThat(foundCourse.getId()).isEqualTo(course.getId());
         Assertions.assertThat(foundCourse.getSessions()).hasSameElementsAs(List.of(freeSession));
     }
+
+    @Test
+    void findByIdFromCatalog() {
+        Course course = new Course(1L, 1L, "TDD, 클린 코드 with Java", NsUserTest.SANJIGI.getId());
+        when(courseRepository.findById(course.getId())).thenReturn(Optional.of(course));
+        when(sessionService.findAllByCourseId(course.getId())).thenReturn(List.of(freeSession));
+
+        Course first = courseService.findById(course.getId());
+        Course second = courseService.findById(course.getId());
+
+        Assertions.assertThat(second).isSameAs(first);
+        verify(courseRepository, times(1)).findById(course.getId());
+    }
+
+    @Test
+    void reloadWhenSessionChangedDuringColdLoad() {
+        Course course = new Course(1L, 1L, "TDD, 클린 코드 with Java", NsUserTest.SANJIGI.getId());
+        when(courseRepository.findById(course.getId())).thenReturn(Optional.of(course));
+        when(sessionService.findAllByCourseId(course.getId())).thenAnswer(invocation -> {
+            courseService.onSessionChanged(new SessionChangedEvent(freeSession.getId()));
+            return List.of(freeSession);
+        });
+
+        courseService.findById(course.getId());
+        courseService.findById(course.getId());
+
+        verify(courseRepository, times(2)).findById(course.getId());
+    }
+
+    @Test
+    void refreshCatalogWhenSessionChanged() throws InterruptedException {
+        Course course = new Course(1L, 1L, "TDD, 클린 코드 with Java", NsUserTest.SANJIGI.getId());
+        when(courseRepository.findById(course.getId())).thenReturn(Optional.of(course));
+        when(sessionService.findAllByCourseId(course.getId())).thenReturn(List.of(freeSession));
+        courseService.findById(course.getId());
+        long version = courseCatalog.getVersion(course.getId());
+
+        courseService.onSessionChanged(new SessionChangedEvent(2L, course.getId()));
+
+        for (int i = 0; i < 100 && courseCatalog.getVersion(course.getId()) == version; i++) {
+            Thread.sleep(10);
+        }
+        Assertions.assertThat(courseCatalog.getVersion(course.getId())).isGreaterThan(version);
+        verify(courseRepository, times(2)).findById(course.getId());
+    }
 }
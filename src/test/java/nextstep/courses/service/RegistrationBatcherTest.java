@@ -0,0 +1,153 @@
+package nextstep.courses.service;
+
+import nextstep.courses.domain.session.Registration;
+import nextstep.courses.domain.session.RegistrationResult;
+import nextstep.courses.domain.session.RegistrationTest;
+import nextstep.courses.domain.student.Student;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class RegistrationBatcherTest {
+    @Mock
+    SessionService sessionService;
+
+    private RegistrationBatcher registrationBatcher;
+
+    @AfterEach
+    void tearDown() {
+        registrationBatcher.shutdown();
+    }
+
+    @Test
+    void flushWhenBatchIsFull() throws Exception {
+        registrationBatcher = new RegistrationBatcher(sessionService, 2, 60_000L, 1);
+        Registration registration = RegistrationTest.REGISTRATION;
+        Registration registration2 = RegistrationTest.REGISTRATION2;
+        when(sessionService.registerAll(1L, List.of(registration, registration2))).thenReturn(List.of(
+                RegistrationResult.success(registration, Student.of(registration)),
+                RegistrationResult.failure(registration2, new IllegalArgumentException("Capacity is full"))));
+
+        CompletableFuture<Student> future = registrationBatcher.submit(registration);
+        CompletableFuture<Student> future2 = registrationBatcher.submit(registration2);
+
+        assertThat(future.get(1, TimeUnit.SECONDS)).isEqualTo(Student.of(registration));
+        assertThatThrownBy(() -> future2.get(1, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalArgumentException.class);
+        verify(sessionService, times(1)).registerAll(anyLong(), anyList());
+    }
+
+    @Test
+    void flushWhenMaxWaitElapsed() throws Exception {
+        registrationBatcher = new RegistrationBatcher(sessionService, 100, 10L, 1);
+        Registration registration = RegistrationTest.REGISTRATION;
+        when(sessionService.registerAll(1L, List.of(registration)))
+                .thenReturn(List.of(RegistrationResult.success(registration, Student.of(registration))));
+
+        CompletableFuture<Student> future = registrationBatcher.submit(registration);
+
+        assertThat(future.get(1, TimeUnit.SECONDS)).isEqualTo(Student.of(registration));
+    }
+
+    @Test
+    void failAllWhenBatchFails() {
+        registrationBatcher = new RegistrationBatcher(sessionService, 1, 60_000L, 1);
+        when(sessionService.registerAll(anyLong(), anyList())).thenThrow(new IllegalStateException("Can't register session"));
+
+        CompletableFuture<Student> future = registrationBatcher.submit(RegistrationTest.REGISTRATION);
+
+        assertThatThrownBy(() -> future.get(1, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void retryOneByOneWhenBatchFails() throws Exception {
+        registrationBatcher = new RegistrationBatcher(sessionService, 2, 60_000L, 1);
+        Registration registration = RegistrationTest.REGISTRATION;
+        Registration registration2 = RegistrationTest.REGISTRATION2;
+        when(sessionService.registerAll(1L, List.of(registration, registration2))).thenThrow(new IllegalArgumentException("Capacity is full"));
+        when(sessionService.registerAll(1L, List.of(registration)))
+                .thenReturn(List.of(RegistrationResult.success(registration, Student.of(registration))));
+        when(sessionService.registerAll(1L, List.of(registration2))).thenThrow(new IllegalArgumentException("Capacity is full"));
+
+        CompletableFuture<Student> future = registrationBatcher.submit(registration);
+        CompletableFuture<Student> future2 = registrationBatcher.submit(registration2);
+
+        assertThat(future.get(1, TimeUnit.SECONDS)).isEqualTo(Student.of(registration));
+        assertThatThrownBy(() -> future2.get(1, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void failWholeBatchWithoutRetryWhenNotCausedByItem() {
+        registrationBatcher = new RegistrationBatcher(sessionService, 2, 60_000L, 1);
+        when(sessionService.registerAll(anyLong(), anyList())).thenThrow(new IllegalStateException("Can't register session"));
+
+        CompletableFuture<Student> future = registrationBatcher.submit(RegistrationTest.REGISTRATION);
+        CompletableFuture<Student> future2 = registrationBatcher.submit(RegistrationTest.REGISTRATION2);
+
+        assertThatThrownBy(() -> future.get(1, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> future2.get(1, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(IllegalStateException.class);
+        verify(sessionService, times(1)).registerAll(anyLong(), anyList());
+    }
+
+    @Test
+    void processBatchesOfSameSessionOnOneWorker() throws Exception {
+        registrationBatcher = new RegistrationBatcher(sessionService, 1, 60_000L, 4);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        when(sessionService.registerAll(anyLong(), anyList())).thenAnswer(invocation -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(5);
+            running.decrementAndGet();
+            Registration registration = invocation.<List<Registration>>getArgument(1).get(0);
+            return List.of(RegistrationResult.success(registration, Student.of(registration)));
+        });
+
+        List<CompletableFuture<Student>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            futures.add(registrationBatcher.submit(i % 2 == 0 ? RegistrationTest.REGISTRATION : RegistrationTest.REGISTRATION2));
+        }
+        for (CompletableFuture<Student> future : futures) {
+            future.get(1, TimeUnit.SECONDS);
+        }
+
+        assertThat(maxRunning.get()).isEqualTo(1);
+    }
+
+    @Test
+    void failPendingOnShutdown() {
+        registrationBatcher = new RegistrationBatcher(sessionService, 100, 60_000L, 1);
+
+        CompletableFuture<Student> future = registrationBatcher.submit(RegistrationTest.REGISTRATION);
+        registrationBatcher.shutdown();
+
+        assertThatThrownBy(() -> future.get(1, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(registrationBatcher.submit(RegistrationTest.REGISTRATION2)).isCompletedExceptionally();
+    }
+}
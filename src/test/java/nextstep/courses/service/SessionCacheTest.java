@@ -0,0 +1,145 @@
+package nextstep.courses.service;
+
+import nextstep.courses.domain.session.FreeSession;
+import nextstep.courses.domain.session.Session;
+import nextstep.courses.domain.session.SessionDate;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SessionCacheTest {
+    private final SessionDate sessionDate = new SessionDate(LocalDateTime.of(2024, 10, 10, 10, 10), LocalDateTime.of(2024, 10, 10, 10, 11));
+    private final AtomicInteger loads = new AtomicInteger();
+    private final Function<Long, Session> loader = id -> {
+        loads.incrementAndGet();
+        return new FreeSession(id, "TDD", sessionDate, new ArrayList<>());
+    };
+
+    @Test
+    void readThrough() {
+        SessionCache sessionCache = new SessionCache(10, 60);
+
+        Session first = sessionCache.get(1L, loader);
+        Session second = sessionCache.get(1L, loader);
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getId()).isEqualTo(first.getId());
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(sessionCache.getHitCount()).isEqualTo(1);
+        assertThat(sessionCache.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    void changesToReturnedSessionDoNotLeakIntoCache() {
+        SessionCache sessionCache = new SessionCache(10, 60);
+
+        sessionCache.get(1L, loader).open();
+
+        assertThat(sessionCache.get(1L, loader).getSessionStatus().isApplicationAvailable()).isFalse();
+    }
+
+    @Test
+    void evictLeastRecentlyUsedWhenFull() {
+        SessionCache sessionCache = new SessionCache(2, 60);
+        sessionCache.get(1L, loader);
+        sessionCache.get(2L, loader);
+        sessionCache.get(1L, loader);
+
+        sessionCache.get(3L, loader);
+        sessionCache.get(1L, loader);
+
+        assertThat(sessionCache.size()).isEqualTo(2);
+        assertThat(sessionCache.getEvictionCount()).isEqualTo(1);
+        assertThat(loads.get()).isEqualTo(3);
+    }
+
+    @Test
+    void expireAfterTtl() {
+        SessionCache sessionCache = new SessionCache(10, 0);
+        sessionCache.get(1L, loader);
+
+        sessionCache.get(1L, loader);
+
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(sessionCache.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void evict() {
+        SessionCache sessionCache = new SessionCache(10, 60);
+        sessionCache.get(1L, loader);
+
+        sessionCache.evict(1L);
+        sessionCache.get(1L, loader);
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void skipPutWhenEvictedDuringLoad() {
+        SessionCache sessionCache = new SessionCache(10, 60);
+
+        sessionCache.get(1L, id -> {
+            sessionCache.evict(id);
+            return loader.apply(id);
+        });
+        sessionCache.get(1L, loader);
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void evictOfOtherSessionDoesNotSkipPut() {
+        SessionCache sessionCache = new SessionCache(10, 60);
+
+        sessionCache.get(1L, id -> {
+            sessionCache.evict(2L);
+            return loader.apply(id);
+        });
+        sessionCache.get(1L, loader);
+
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void waitForLoadInFlight() throws Exception {
+        SessionCache sessionCache = new SessionCache(10, 60);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService readers = Executors.newFixedThreadPool(2);
+        try {
+            Future<Session> first = readers.submit(() -> sessionCache.get(1L, id -> {
+                loading.countDown();
+                await(release);
+                return loader.apply(id);
+            }));
+            loading.await();
+            Future<Session> second = readers.submit(() -> sessionCache.get(1L, loader));
+            release.countDown();
+
+            assertThat(second.get(1, TimeUnit.SECONDS).getId()).isEqualTo(first.get(1, TimeUnit.SECONDS).getId());
+        } finally {
+            readers.shutdownNow();
+        }
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
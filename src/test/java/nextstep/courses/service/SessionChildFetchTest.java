@@ -0,0 +1,91 @@
+package nextstep.courses.service;
+
+import nextstep.courses.domain.session.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 커넥션 풀보다 동시 호출이 많아도 자식 조회 병렬화가 커넥션을 기다리며 멈추지 않는지 확인한다
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:session-child-fetch;DB_CLOSE_DELAY=-1",
+        "spring.datasource.hikari.maximum-pool-size=2",
+        "spring.datasource.hikari.minimum-idle=1",
+        "spring.datasource.hikari.connection-timeout=1000",
+        "lms.session.child-fetch.parallel=true",
+        "lms.session.child-fetch.threads=2",
+        "lms.session.cache.ttl-seconds=0"
+})
+public class SessionChildFetchTest {
+    @Autowired
+    private SessionService sessionService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private long sessionId;
+
+    @BeforeEach
+    void setUp() {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement("insert into session (course_id, title, start_at, end_at, session_type, session_progress_status, session_recruit_status, capacity, price, created_at) " +
+                    "values (1, 'session', current_timestamp(), dateadd('DAY', 30, current_timestamp()), 'PAID', 'ON_GOING', 'RECRUITMENT', 10, 200000, current_timestamp())", new String[]{"id"});
+            return ps;
+        }, keyHolder);
+        sessionId = keyHolder.getKey().longValue();
+        jdbcTemplate.update("insert into image (session_id, size, image_type, width, height, created_at) values (?, 1024, 'GIF', 300, 200, current_timestamp())", sessionId);
+        jdbcTemplate.update("insert into lecturer (ns_user_id, session_id) values (1, ?)", sessionId);
+        jdbcTemplate.update("insert into student (ns_user_id, session_id, amount, status) values (1, ?, 200000, 'APPLIED')", sessionId);
+    }
+
+    @Test
+    void findByIdWithMoreCallersThanConnections() throws Exception {
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Session>> futures = new ArrayList<>();
+            for (int i = 0; i < 32; i++) {
+                futures.add(callers.submit(() -> sessionService.findById(sessionId)));
+            }
+
+            for (Future<Session> future : futures) {
+                Session session = future.get(10, TimeUnit.SECONDS);
+                assertThat(session.getImages()).hasSize(1);
+                assertThat(session.getStudents()).hasSize(1);
+                assertThat(session.getLecturer()).isNotNull();
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    void findByIdInCallerTransaction() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+
+        Session session = transactionTemplate.execute(status -> sessionService.findById(sessionId));
+
+        assertThat(session.getImages()).hasSize(1);
+        assertThat(session.getStudents()).hasSize(1);
+        assertThat(session.getLecturer()).isNotNull();
+    }
+}
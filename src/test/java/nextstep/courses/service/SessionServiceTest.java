@@ -1,12 +1,14 @@
 package nextstep.courses.service;
 
 import nextstep.courses.domain.image.*;
+import nextstep.courses.domain.lecturer.Lecturer;
 import nextstep.courses.domain.lecturer.LecturerRepository;
 import nextstep.courses.domain.lecturer.LecturerTest;
 import nextstep.courses.domain.session.*;
 import nextstep.courses.domain.student.Student;
 import nextstep.courses.domain.student.StudentRepository;
 import nextstep.courses.domain.student.StudentStatus;
+import nextstep.courses.domain.student.StudentStatusTransition;
 import nextstep.payments.domain.Payment;
 import nextstep.users.domain.NsUser;
 import nextstep.users.domain.NsUserTest;
@@ -16,17 +18,26 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -42,6 +53,10 @@ public class SessionServiceTest {
     StudentRepository studentRepository;
     @Mock
     LecturerRepository lecturerRepository;
+    @Spy
+    SessionCache sessionCache = new SessionCache(100, 60);
+    @Mock
+    ApplicationEventPublisher eventPublisher;
 
     private Session session;
     private Image image;
@@ -86,6 +101,8 @@ public class SessionServiceTest {
         Student student2 = new Student(amount, NsUserTest.SANJIGI.getId());
 
         mockSetup(paidSession, student2);
+        when(sessionRepository.reserveSeats(sessionId, 1)).thenReturn(true);
+        when(studentRepository.saveAll(anyList(), anyLong())).thenReturn(new int[]{1});
 
         paidSession.open();
 
@@ -96,6 +113,73 @@ public class SessionServiceTest {
         assertThat(registerSession.getId()).isEqualTo(paidSession.getId());
         assertThat(registerSession.getStudents()).hasSameElementsAs(List.of(student, student2));
         assertThat(registerSession.getFee().getPrice()).isEqualTo(amount);
+        verify(studentRepository).saveAll(List.of(student), sessionId);
+        verify(studentRepository, never()).updateStatusAll(anyList(), anyLong());
+    }
+
+    @Test
+    void registerTest_WhenSeatsTaken() {
+        Long sessionId = 2L;
+        NsUser nsUser = NsUserTest.JAVAJIGI;
+        Long amount = 200_000L;
+        Payment payment = new Payment("1234", sessionId, nsUser.getId(), amount);
+        PaidSession paidSession = new PaidSession(sessionId, title, new ArrayList<>(List.of(image)), sessionDate, sessionCapacity, fee);
+        paidSession.open();
+
+        mockSetup(paidSession, new Student(amount, NsUserTest.SANJIGI.getId()));
+        when(sessionRepository.reserveSeats(sessionId, 1)).thenReturn(false);
+
+        Assertions.assertThatThrownBy(() -> sessionService.register(sessionId, nsUser, payment))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(studentRepository, never()).saveAll(anyList(), anyLong());
+    }
+
+    @Test
+    void registerAllTest() {
+        Long sessionId = 2L;
+        Long amount = 200_000L;
+        PaidSession paidSession = new PaidSession(sessionId, title, new ArrayList<>(List.of(image)), sessionDate, new SessionCapacity(2), fee);
+        paidSession.open();
+        Registration registration = Registration.of(sessionId, NsUserTest.JAVAJIGI, new Payment("1234", sessionId, NsUserTest.JAVAJIGI.getId(), amount));
+        Registration lowerPayment = Registration.of(sessionId, NsUserTest.SANJIGI, new Payment("1235", sessionId, NsUserTest.SANJIGI.getId(), amount - 1));
+
+        when(sessionRepository.findById(anyLong())).thenReturn(Optional.of(paidSession));
+        when(imageRepository.findAllBySessionId(anyLong())).thenReturn(new ArrayList<>(List.of(image)));
+        when(studentRepository.findAllBySessionId(anyLong())).thenReturn(new ArrayList<>());
+        when(lecturerRepository.findBySessionId(anyLong())).thenReturn(Optional.of(LecturerTest.testLecturer));
+        when(sessionRepository.reserveSeats(sessionId, 1)).thenReturn(true);
+
+        List<RegistrationResult> results = sessionService.registerAll(sessionId, List.of(registration, lowerPayment));
+
+        assertThat(results).hasSize(2);
+        assertThat(results.get(0).isSuccess()).isTrue();
+        assertThat(results.get(1).isSuccess()).isFalse();
+        assertThat(results.get(1).getError()).isInstanceOf(IllegalArgumentException.class);
+        verify(studentRepository).saveAll(List.of(Student.of(registration)), sessionId);
+    }
+
+    @Test
+    void registerAllKeepsSeatCounterAcrossCommits() {
+        Long sessionId = 2L;
+        Long amount = 200_000L;
+        PaidSession paidSession = new PaidSession(sessionId, title, new ArrayList<>(List.of(image)), sessionDate, new SessionCapacity(1), fee);
+        paidSession.open();
+        Registration first = Registration.of(sessionId, NsUserTest.JAVAJIGI, new Payment("1234", sessionId, NsUserTest.JAVAJIGI.getId(), amount));
+        Registration second = Registration.of(sessionId, NsUserTest.SANJIGI, new Payment("1235", sessionId, NsUserTest.SANJIGI.getId(), amount));
+
+        // 두 번째 요청도 첫 번째 등록 전의 스냅샷을 읽는다
+        when(sessionRepository.findById(anyLong())).thenReturn(Optional.of(paidSession));
+        when(imageRepository.findAllBySessionId(anyLong())).thenReturn(new ArrayList<>(List.of(image)));
+        when(studentRepository.findAllBySessionId(anyLong())).thenReturn(new ArrayList<>());
+        when(lecturerRepository.findBySessionId(anyLong())).thenReturn(Optional.of(LecturerTest.testLecturer));
+        when(sessionRepository.reserveSeats(sessionId, 1)).thenReturn(true);
+
+        sessionService.registerAll(sessionId, List.of(first));
+
+        Assertions.assertThatThrownBy(() -> sessionService.registerAll(sessionId, List.of(second)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Capacity is full");
+        verify(sessionRepository, times(1)).reserveSeats(sessionId, 1);
     }
 
     @Test
@@ -123,6 +207,59 @@ public class SessionServiceTest {
         for (Student elem : accept.getStudents()) {
             Assertions.assertThat(elem.getStatus()).isEqualTo(StudentStatus.ACCEPTED);
         }
+        verify(studentRepository).updateStatusAll(List.of(student2), sessionId);
+        verify(studentRepository, never()).saveAll(anyList(), anyLong());
+        verify(sessionRepository, never()).releaseSeats(anyLong(), anyInt());
+    }
+
+    @Test
+    void acceptAllTest() {
+        Long sessionId = 2L;
+        PaidSession paidSession = new PaidSession(sessionId, title, new ArrayList<>(List.of(image)), sessionDate, sessionCapacity, fee);
+        paidSession.open();
+        List<Long> nsUserIds = List.of(NsUserTest.JAVAJIGI.getId(), NsUserTest.SANJIGI.getId());
+
+        when(sessionRepository.findById(sessionId)).thenReturn(Optional.of(paidSession));
+        when(lecturerRepository.findBySessionId(sessionId)).thenReturn(Optional.of(LecturerTest.testLecturer));
+        when(studentRepository.findStatusesByNsUserIds(sessionId, nsUserIds))
+                .thenReturn(Map.of(NsUserTest.JAVAJIGI.getId(), StudentStatus.APPLIED, NsUserTest.SANJIGI.getId(), StudentStatus.REJECTED));
+
+        StudentStatusTransition transition = sessionService.acceptAll(sessionId, LecturerTest.testLecturer, nsUserIds);
+
+        assertThat(transition.getOutcome(NsUserTest.JAVAJIGI.getId())).isEqualTo(StudentStatusTransition.Outcome.UPDATED);
+        assertThat(transition.getOutcome(NsUserTest.SANJIGI.getId())).isEqualTo(StudentStatusTransition.Outcome.CONFLICT);
+        verify(studentRepository).updateStatusByNsUserIds(sessionId, List.of(NsUserTest.JAVAJIGI.getId()), StudentStatus.APPLIED, StudentStatus.ACCEPTED);
+    }
+
+    @Test
+    void rejectAllReleasesSeats() {
+        Long sessionId = 2L;
+        PaidSession paidSession = new PaidSession(sessionId, title, new ArrayList<>(List.of(image)), sessionDate, sessionCapacity, fee);
+        paidSession.open();
+        List<Long> nsUserIds = List.of(NsUserTest.JAVAJIGI.getId(), NsUserTest.SANJIGI.getId());
+
+        when(sessionRepository.findById(sessionId)).thenReturn(Optional.of(paidSession));
+        when(lecturerRepository.findBySessionId(sessionId)).thenReturn(Optional.of(LecturerTest.testLecturer));
+        when(studentRepository.findStatusesByNsUserIds(sessionId, nsUserIds))
+                .thenReturn(Map.of(NsUserTest.JAVAJIGI.getId(), StudentStatus.APPLIED, NsUserTest.SANJIGI.getId(), StudentStatus.APPLIED));
+        when(studentRepository.updateStatusByNsUserIds(sessionId, nsUserIds, StudentStatus.APPLIED, StudentStatus.REJECTED)).thenReturn(2);
+
+        sessionService.rejectAll(sessionId, LecturerTest.testLecturer, nsUserIds);
+
+        verify(sessionRepository).releaseSeats(sessionId, 2);
+    }
+
+    @Test
+    void acceptAllTest_WithOtherLecturer() {
+        Long sessionId = 2L;
+        PaidSession paidSession = new PaidSession(sessionId, title, new ArrayList<>(List.of(image)), sessionDate, sessionCapacity, fee);
+
+        when(sessionRepository.findById(sessionId)).thenReturn(Optional.of(paidSession));
+        when(lecturerRepository.findBySessionId(sessionId)).thenReturn(Optional.of(LecturerTest.testLecturer));
+
+        Assertions.assertThatThrownBy(() -> sessionService.acceptAll(sessionId, new Lecturer(NsUserTest.JAVAJIGI.getId()), List.of(1L)))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(studentRepository, never()).updateStatusByNsUserIds(anyLong(), anyList(), any(), any());
     }
 
     private void mockSetup(PaidSession paidSession, Student student) {
@@ -130,7 +267,6 @@ public class SessionServiceTest {
         when(imageRepository.findAllBySessionId(anyLong())).thenReturn(new ArrayList<>(List.of(image)));
         when(studentRepository.findAllBySessionId(anyLong())).thenReturn(new ArrayList<>(List.of(student)));
         when(lecturerRepository.findBySessionId(anyLong())).thenReturn(Optional.of(LecturerTest.testLecturer));
-        when(studentRepository.saveAll(anyList(), anyLong())).thenReturn(new int[]{1});
     }
 
     @Test
@@ -158,6 +294,9 @@ public class SessionServiceTest {
         for (Student elem : accept.getStudents()) {
             Assertions.assertThat(elem.getStatus()).isEqualTo(StudentStatus.REJECTED);
         }
+        verify(studentRepository).updateStatusAll(List.of(student2), sessionId);
+        verify(studentRepository, never()).saveAll(anyList(), anyLong());
+        verify(sessionRepository).releaseSeats(sessionId, 1);
     }
 
     @Test
@@ -183,4 +322,89 @@ public class SessionServiceTest {
         assertThat(foundSession.getImages()).hasSameElementsAs(List.of(image));
         assertThat(foundSession.getSessionType()).isEqualTo(SessionType.PAID);
     }
+
+    @Test
+    void findByIdWithChildFetchExecutor() {
+        Long sessionId = 2L;
+        PaidSession paidSession = new PaidSession(sessionId, title, new ArrayList<>(List.of(image)), sessionDate, sessionCapacity, fee);
+        Student student = new Student(200_000L, NsUserTest.JAVAJIGI.getId());
+        mockSetup(paidSession, student);
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+
+        try {
+            SessionService parallelSessionService = new SessionService(sessionRepository, imageRepository, studentRepository,
+                    lecturerRepository, new SessionCache(100, 60), eventPublisher, executor);
+            Session foundSession = parallelSessionService.findById(sessionId);
+
+            assertThat(foundSession.getImages()).containsExactly(image);
+            assertThat(foundSession.getStudents()).containsExactly(student);
+            assertThat(foundSession.getLecturer()).isEqualTo(LecturerTest.testLecturer);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void findAllByCourseId() {
+        Long courseId = 1L;
+        Long amount = 200_000L;
+        PaidSession paidSession = new PaidSession(2L, title, new ArrayList<>(), sessionDate, sessionCapacity, fee);
+        FreeSession freeSession = new FreeSession(3L, title, sessionDate, new ArrayList<>());
+        Student student = new Student(amount, NsUserTest.JAVAJIGI.getId());
+        List<Long> sessionIds = List.of(2L, 3L);
+
+        when(sessionRepository.findAllByCourseId(courseId)).thenReturn(List.of(paidSession, freeSession));
+        when(imageRepository.findAllBySessionIds(sessionIds)).thenReturn(Map.of(2L, new ArrayList<>(List.of(image))));
+        when(studentRepository.findAllBySessionIds(sessionIds)).thenReturn(Map.of(2L, new ArrayList<>(List.of(student))));
+        when(lecturerRepository.findAllBySessionIds(sessionIds)).thenReturn(Map.of(2L, LecturerTest.testLecturer));
+
+        List<Session> sessions = sessionService.findAllByCourseId(courseId);
+
+        assertThat(sessions).hasSize(2);
+        assertThat(sessions.get(0).getImages()).containsExactly(image);
+        assertThat(sessions.get(0).getStudents()).containsExactly(student);
+        assertThat(sessions.get(0).getLecturer()).isEqualTo(LecturerTest.testLecturer);
+        assertThat(sessions.get(1).getSessionType()).isEqualTo(SessionType.FREE);
+        assertThat(sessions.get(1).getImages()).isEmpty();
+        assertThat(sessions.get(1).getStudents()).isEmpty();
+        verify(imageRepository, never()).findAllBySessionId(anyLong());
+        verify(studentRepository, never()).findAllBySessionId(anyLong());
+    }
+
+    @Test
+    void findByIdFromCache() {
+        Long sessionId = 2L;
+        PaidSession paidSession = new PaidSession(sessionId, title, new ArrayList<>(List.of(image)), sessionDate, sessionCapacity, fee);
+        when(sessionRepository.findById(sessionId)).thenReturn(Optional.of(paidSession));
+        when(imageRepository.findAllBySessionId(sessionId)).thenReturn(new ArrayList<>(List.of(image)));
+        when(studentRepository.findAllBySessionId(sessionId)).thenReturn(new ArrayList<>());
+        when(lecturerRepository.findBySessionId(sessionId)).thenReturn(Optional.of(LecturerTest.testLecturer));
+
+        Session first = sessionService.findById(sessionId);
+        Session second = sessionService.findById(sessionId);
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getId()).isEqualTo(first.getId());
+        verify(sessionRepository, times(1)).findById(sessionId);
+        assertThat(sessionCache.getHitCount()).isEqualTo(1);
+        assertThat(sessionCache.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    void registerEvictsCache() {
+        Long sessionId = 2L;
+        NsUser nsUser = NsUserTest.JAVAJIGI;
+        Payment payment = new Payment("1234", sessionId, nsUser.getId(), 200_000L);
+        PaidSession paidSession = new PaidSession(sessionId, title, new ArrayList<>(List.of(image)), sessionDate, sessionCapacity, fee);
+        paidSession.open();
+        mockSetup(paidSession, new Student(200_000L, NsUserTest.SANJIGI.getId()));
+        when(sessionRepository.reserveSeats(sessionId, 1)).thenReturn(true);
+
+        sessionService.findById(sessionId);
+        sessionService.register(sessionId, nsUser, payment);
+
+        verify(sessionCache).evictAfterCommit(sessionId);
+        assertThat(sessionCache.size()).isZero();
+        verify(eventPublisher).publishEvent(any(SessionChangedEvent.class));
+    }
 }
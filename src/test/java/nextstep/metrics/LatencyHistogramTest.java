@@ -0,0 +1,35 @@
+package nextstep.metrics;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+    @Test
+    @DisplayName("기록한 값의 개수, 평균, 최대값")
+    void recordTest() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        histogram.record(100);
+        histogram.record(300);
+
+        Assertions.assertThat(histogram.getCount()).isEqualTo(2);
+        Assertions.assertThat(histogram.getMeanNanos()).isEqualTo(200);
+        Assertions.assertThat(histogram.getMaxNanos()).isEqualTo(300);
+    }
+
+    @Test
+    @DisplayName("백분위는 버킷 상한으로 계산")
+    void percentileTest() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 99; i++) {
+            histogram.record(1_000);
+        }
+        histogram.record(1_000_000);
+
+        Assertions.assertThat(histogram.getPercentileNanos(50)).isEqualTo(1_023);
+        Assertions.assertThat(histogram.getPercentileNanos(100)).isEqualTo(1_000_000);
+        Assertions.assertThatThrownBy(() -> histogram.getPercentileNanos(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,55 @@
+package nextstep.metrics;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+public class MeteredDataSourceTest {
+    @Test
+    @DisplayName("PreparedStatement 실행 시간을 정규화된 SQL별로 집계")
+    void recordTest() {
+        QueryMetrics queryMetrics = new QueryMetrics(10);
+        MeteredDataSource dataSource = new MeteredDataSource(new DriverManagerDataSource("jdbc:h2:mem:metered"), queryMetrics, 1);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+        jdbcTemplate.queryForObject("select count(*) from dual where 1 in (?, ?)", Integer.class, 1, 2);
+        jdbcTemplate.queryForObject("select count(*) from dual where 1 in (?, ?, ?)", Integer.class, 1, 2, 3);
+
+        Assertions.assertThat(queryMetrics.getHistograms().get("select count(*) from dual where 1 in (?)").getCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("같은 SQL을 반복 실행해도 하나의 정규화된 SQL로 집계")
+    void recordRepeatedTest() {
+        QueryMetrics queryMetrics = new QueryMetrics(10);
+        MeteredDataSource dataSource = new MeteredDataSource(new DriverManagerDataSource("jdbc:h2:mem:metered"), queryMetrics);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+        for (int i = 0; i < 3; i++) {
+            jdbcTemplate.queryForObject("select count(*) from dual where 1 in (?, ?)", Integer.class, 1, 2);
+        }
+
+        Assertions.assertThat(queryMetrics.getHistograms()).hasSize(1);
+        Assertions.assertThat(queryMetrics.getHistograms().get("select count(*) from dual where 1 in (?)").getCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("CallableStatement 실행 시간도 집계")
+    void recordCallTest() throws SQLException {
+        QueryMetrics queryMetrics = new QueryMetrics(10);
+        MeteredDataSource dataSource = new MeteredDataSource(new DriverManagerDataSource("jdbc:h2:mem:metered"), queryMetrics);
+
+        try (Connection connection = dataSource.getConnection();
+             CallableStatement statement = connection.prepareCall("call 1")) {
+            statement.execute();
+        }
+
+        Assertions.assertThat(queryMetrics.getHistograms().get("call 1").getCount()).isEqualTo(1);
+    }
+}
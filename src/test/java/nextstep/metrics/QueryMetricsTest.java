@@ -0,0 +1,26 @@
+package nextstep.metrics;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class QueryMetricsTest {
+    @Test
+    @DisplayName("IN 목록 길이가 다른 SQL은 하나로 정규화")
+    void normalizeTest() {
+        Assertions.assertThat(QueryMetrics.normalize("select * from student where session_id in (?, ?, ?)"))
+                .isEqualTo(QueryMetrics.normalize("select * from student where session_id in (?)"))
+                .isEqualTo("select * from student where session_id in (?)");
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘는 SQL은 기타로 집계")
+    void histogramTest() {
+        QueryMetrics queryMetrics = new QueryMetrics(1);
+
+        queryMetrics.histogram("select 1").record(10);
+        queryMetrics.histogram("select 2").record(10);
+
+        Assertions.assertThat(queryMetrics.getHistograms()).containsOnlyKeys("select 1", QueryMetrics.OTHER);
+    }
+}
@@ -0,0 +1,85 @@
+package nextstep.metrics;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+public class RepositoryMetricsTest {
+    @Test
+    @DisplayName("호출 수, 행 수, 오류 수를 메서드별로 집계")
+    void instrumentTest() {
+        RepositoryMetrics repositoryMetrics = new RepositoryMetrics();
+        NameRepository repository = (NameRepository) repositoryMetrics.instrument(new FixedNameRepository(), new Class<?>[]{NameRepository.class});
+
+        Assertions.assertThat(repository.findAll()).containsExactly("a", "b");
+        repository.findAll();
+        Assertions.assertThatThrownBy(() -> repository.delete("a"))
+                .isInstanceOf(IllegalStateException.class);
+
+        MethodMetrics findAll = find(repositoryMetrics, "findAll()");
+        MethodMetrics delete = find(repositoryMetrics, "delete(String)");
+        Assertions.assertThat(findAll.getCalls()).isEqualTo(2);
+        Assertions.assertThat(findAll.getRows()).isEqualTo(4);
+        Assertions.assertThat(findAll.getLatency().getCount()).isEqualTo(2);
+        Assertions.assertThat(delete.getErrors()).isEqualTo(1);
+        Assertions.assertThat(repositoryMetrics.getCalledMethods()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("오버로드된 메서드는 파라미터 타입으로 구분해 집계")
+    void overloadTest() {
+        RepositoryMetrics repositoryMetrics = new RepositoryMetrics();
+        NameRepository repository = (NameRepository) repositoryMetrics.instrument(new FixedNameRepository(), new Class<?>[]{NameRepository.class});
+
+        repository.findAll();
+        repository.findAll(1);
+        repository.findAll(1);
+
+        Assertions.assertThat(find(repositoryMetrics, "findAll()").getCalls()).isEqualTo(1);
+        Assertions.assertThat(find(repositoryMetrics, "findAll(int)").getCalls()).isEqualTo(2);
+        Assertions.assertThat(find(repositoryMetrics, "findAll(int)").getRows()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("배치 결과의 행 수는 건수의 합")
+    void rowsTest() {
+        Assertions.assertThat(RepositoryMetrics.rows(new int[]{1, 1, -2})).isEqualTo(3);
+        Assertions.assertThat(RepositoryMetrics.rows(Optional.empty())).isZero();
+        Assertions.assertThat(RepositoryMetrics.rows(null)).isZero();
+    }
+
+    private static MethodMetrics find(RepositoryMetrics repositoryMetrics, String method) {
+        return repositoryMetrics.getMethods().stream()
+                .filter(it -> it.getMethod().equals(method))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    interface NameRepository {
+        List<String> findAll();
+
+        List<String> findAll(int limit);
+
+        int delete(String name);
+    }
+
+    static class FixedNameRepository implements NameRepository {
+        @Override
+        public List<String> findAll() {
+            return List.of("a", "b");
+        }
+
+        @Override
+        public List<String> findAll(int limit) {
+            return findAll().subList(0, limit);
+        }
+
+        @Override
+        public int delete(String name) {
+            throw new IllegalStateException("read only");
+        }
+    }
+}
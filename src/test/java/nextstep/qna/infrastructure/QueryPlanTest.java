@@ -0,0 +1,47 @@
+package nextstep.qna.infrastructure;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@JdbcTest
+public class QueryPlanTest {
+    private static final Logger LOGGER = LoggerFactory.getLogger(QueryPlanTest.class);
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 10, 10, 10, 10);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    static Stream<Arguments> queries() {
+        return Stream.of(
+                Arguments.of(JdbcQuestionRepository.FIND_BY_ID, List.of(1L)),
+                Arguments.of(JdbcQuestionRepository.FIND_DELETION, List.of("javajigi", 1L)),
+                Arguments.of(JdbcQuestionRepository.SELECT_SUMMARIES + JdbcQuestionRepository.ORDER_SUMMARIES, List.of(20)),
+                Arguments.of(JdbcQuestionRepository.SELECT_SUMMARIES + JdbcQuestionRepository.AFTER_CURSOR + JdbcQuestionRepository.ORDER_SUMMARIES, List.of(NOW, NOW, 1L, 20)),
+                Arguments.of(JdbcQuestionRepository.DELETE_QUESTION, List.of(1L, "javajigi")),
+                Arguments.of(JdbcQuestionRepository.DELETE_ANSWERS, List.of(1L)),
+                Arguments.of(JdbcAnswerRepository.FIND_BY_QUESTION, List.of(1L)),
+                Arguments.of(JdbcDeleteHistoryRepository.SAVE_ALL_BY_QUESTION, List.of(NOW, 1L, 1L))
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("queries")
+    void useIndex(String sql, List<Object> args) {
+        String plan = jdbcTemplate.queryForObject("explain " + sql, String.class, args.toArray());
+        LOGGER.debug("Plan: {}", plan);
+
+        assertThat(plan).doesNotContain("tableScan");
+    }
+}
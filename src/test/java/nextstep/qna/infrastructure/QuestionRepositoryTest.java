@@ -0,0 +1,217 @@
+package nextstep.qna.infrastructure;
+
+import nextstep.qna.CannotDeleteException;
+import nextstep.qna.domain.Answer;
+import nextstep.qna.domain.AnswerRepository;
+import nextstep.qna.domain.ContentType;
+import nextstep.qna.domain.DeleteHistory;
+import nextstep.qna.domain.DeleteHistoryRepository;
+import nextstep.qna.domain.Question;
+import nextstep.qna.domain.QuestionDeletion;
+import nextstep.qna.domain.QuestionSummary;
+import nextstep.qna.domain.QuestionRepository;
+import nextstep.users.domain.NsUser;
+import nextstep.users.domain.NsUserTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@JdbcTest
+public class QuestionRepositoryTest {
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private QuestionRepository questionRepository;
+    private AnswerRepository answerRepository;
+    private DeleteHistoryRepository deleteHistoryRepository;
+
+    @BeforeEach
+    void setUp() {
+        questionRepository = new JdbcQuestionRepository(jdbcTemplate);
+        answerRepository = new JdbcAnswerRepository(jdbcTemplate);
+        deleteHistoryRepository = new JdbcDeleteHistoryRepository(jdbcTemplate);
+    }
+
+    @Test
+    void findById() {
+        Question question = questionRepository.findById(1L).orElseThrow();
+
+        assertThat(question.getWriter().getUserId()).isEqualTo("javajigi");
+        assertThat(question.getContents()).startsWith("Ruby on Rails");
+        assertThat(question.getAnswers()).hasSize(2);
+        assertThat(question.getAnswers().get(0).getWriter().getUserId()).isEqualTo("javajigi");
+        assertThat(question.getAnswers().get(1).getWriter().getUserId()).isEqualTo("sanjigi");
+        assertThat(question.isOwner(NsUserTest.JAVAJIGI)).isTrue();
+    }
+
+    @Test
+    void findByIdWithoutAnswers() {
+        Question question = questionRepository.findById(2L).orElseThrow();
+
+        assertThat(question.getWriter().getUserId()).isEqualTo("sanjigi");
+        assertThat(question.getAnswers()).isEmpty();
+    }
+
+    @Test
+    void findByIdExcludesDeleted() {
+        jdbcTemplate.update("update answer set deleted = true where question_id = 1 and writer_id = 2");
+        jdbcTemplate.update("update question set deleted = true where id = 2");
+
+        assertThat(questionRepository.findById(1L).orElseThrow().getAnswers()).hasSize(1);
+        assertThat(questionRepository.findById(2L)).isEqualTo(Optional.empty());
+    }
+
+    @Test
+    void findByIdSkipsAnswersWithoutWriter() {
+        jdbcTemplate.update("insert into answer (writer_id, contents, created_at, question_id, deleted) values (999, 'orphan', current_timestamp(), 1, false)");
+
+        Question question = questionRepository.findById(1L).orElseThrow();
+
+        assertThat(question.getContents()).startsWith("Ruby on Rails");
+        assertThat(question.getAnswers()).hasSize(2);
+        assertThat(answerRepository.findByQuestion(1L)).hasSize(2);
+    }
+
+    @Test
+    void findByQuestion() {
+        List<Answer> answers = answerRepository.findByQuestion(1L);
+
+        assertThat(answers).hasSize(2);
+        assertThat(answers.get(0).getWriter().getUserId()).isEqualTo("javajigi");
+        assertThat(answers.get(1).getContents()).startsWith("언더스코어");
+    }
+
+    @Test
+    void findDeletion() {
+        QuestionDeletion deletion = questionRepository.findDeletion(1L, NsUserTest.JAVAJIGI).orElseThrow();
+
+        assertThatThrownBy(() -> deletion.validate(NsUserTest.JAVAJIGI))
+                .isInstanceOf(CannotDeleteException.class)
+                .hasMessage("다른 사람이 쓴 답변이 있어 삭제할 수 없습니다.");
+    }
+
+    @Test
+    void findDeletionWithoutForeignAnswers() throws Exception {
+        jdbcTemplate.update("update answer set deleted = true where question_id = 1 and writer_id = 2");
+
+        questionRepository.findDeletion(1L, NsUserTest.JAVAJIGI).orElseThrow().validate(NsUserTest.JAVAJIGI);
+    }
+
+    @Test
+    void deleteWithAnswers() {
+        jdbcTemplate.update("update answer set deleted = true where question_id = 1 and writer_id = 2");
+
+        int histories = deleteHistoryRepository.saveAllByQuestion(1L, LocalDateTime.now());
+        int deleted = questionRepository.deleteWithAnswers(1L, NsUserTest.JAVAJIGI);
+
+        assertThat(histories).isEqualTo(2);
+        assertThat(deleted).isEqualTo(2);
+        assertThat(questionRepository.findById(1L)).isEmpty();
+        assertThat(answerRepository.findByQuestion(1L)).isEmpty();
+        assertThat(jdbcTemplate.queryForList("select content_type from delete_history where deleted_by_id = 1", String.class))
+                .containsExactlyInAnyOrder("QUESTION", "ANSWER");
+        assertThat(jdbcTemplate.queryForObject("select count(distinct id) from delete_history", Integer.class)).isEqualTo(2);
+    }
+
+    @Test
+    void saveAllDeleteHistories() {
+        deleteHistoryRepository.saveAll(List.of(
+                new DeleteHistory(ContentType.QUESTION, 1L, NsUserTest.JAVAJIGI, LocalDateTime.now()),
+                new DeleteHistory(ContentType.ANSWER, 1L, NsUserTest.JAVAJIGI, LocalDateTime.now())));
+
+        assertThat(jdbcTemplate.queryForList("select content_type from delete_history where deleted_by_id = 1", String.class))
+                .containsExactlyInAnyOrder("QUESTION", "ANSWER");
+    }
+
+    @Test
+    void saveAllAndSaveAllByQuestionShareSequence() {
+        deleteHistoryRepository.saveAll(List.of(new DeleteHistory(ContentType.QUESTION, 2L, NsUserTest.SANJIGI, LocalDateTime.now())));
+        int histories = deleteHistoryRepository.saveAllByQuestion(1L, LocalDateTime.now());
+
+        assertThat(histories).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject("select count(distinct id) from delete_history", Integer.class)).isEqualTo(4);
+    }
+
+    @Test
+    void deleteWithAnswersSkipsWhenForeignAnswerExists() {
+        int deleted = questionRepository.deleteWithAnswers(1L, NsUserTest.JAVAJIGI);
+
+        assertThat(deleted).isZero();
+        assertThat(questionRepository.findById(1L).orElseThrow().getAnswers()).hasSize(2);
+    }
+
+    @Test
+    void deleteWithAnswersByLoginUserWithoutId() {
+        NsUser loginUser = new NsUser(null, "javajigi", "password", "name", "javajigi@slipp.net");
+
+        QuestionDeletion deletion = questionRepository.findDeletion(1L, loginUser).orElseThrow();
+
+        assertThatThrownBy(() -> deletion.validate(loginUser)).isInstanceOf(CannotDeleteException.class);
+        assertThat(questionRepository.deleteWithAnswers(1L, loginUser)).isZero();
+
+        jdbcTemplate.update("update answer set deleted = true where question_id = 1 and writer_id = 2");
+        assertThat(questionRepository.deleteWithAnswers(1L, loginUser)).isEqualTo(2);
+    }
+
+    @Test
+    void rejectLoginUserWithoutUserId() {
+        NsUser loginUser = new NsUser(1L, null, "password", "name", "javajigi@slipp.net");
+
+        assertThatThrownBy(() -> questionRepository.deleteWithAnswers(1L, loginUser))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> questionRepository.findDeletion(1L, loginUser))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void findDeletionWithOtherUser() {
+        QuestionDeletion deletion = questionRepository.findDeletion(1L, NsUserTest.SANJIGI).orElseThrow();
+
+        assertThatThrownBy(() -> deletion.validate(NsUserTest.SANJIGI))
+                .isInstanceOf(CannotDeleteException.class)
+                .hasMessage("질문을 삭제할 권한이 없습니다.");
+    }
+
+    @Test
+    void findSummaries() {
+        List<QuestionSummary> first = questionRepository.findSummaries(null, 1);
+        List<QuestionSummary> second = questionRepository.findSummaries(first.get(0).toCursor(), 1);
+        List<QuestionSummary> last = questionRepository.findSummaries(second.get(0).toCursor(), 1);
+
+        assertThat(first).extracting(QuestionSummary::getId).containsExactly(2L);
+        assertThat(first.get(0).getAnswerCount()).isZero();
+        assertThat(second).extracting(QuestionSummary::getId).containsExactly(1L);
+        assertThat(second.get(0).getAnswerCount()).isEqualTo(2);
+        assertThat(second.get(0).getWriterUserId()).isEqualTo("javajigi");
+        assertThat(last).isEmpty();
+    }
+
+    @Test
+    void findSummariesWithSameCreatedAt() {
+        jdbcTemplate.update("update question set created_at = timestamp '2024-10-10 10:10:00'");
+        jdbcTemplate.update("update answer set deleted = true where question_id = 1 and writer_id = 2");
+
+        List<QuestionSummary> first = questionRepository.findSummaries(null, 1);
+        List<QuestionSummary> second = questionRepository.findSummaries(first.get(0).toCursor(), 10);
+
+        assertThat(first).extracting(QuestionSummary::getId).containsExactly(2L);
+        assertThat(second).extracting(QuestionSummary::getId).containsExactly(1L);
+        assertThat(second.get(0).getAnswerCount()).isEqualTo(1);
+    }
+
+    @Test
+    void findSummariesExcludesDeleted() {
+        jdbcTemplate.update("update question set deleted = true where id = 2");
+
+        assertThat(questionRepository.findSummaries(null, 10)).extracting(QuestionSummary::getId).containsExactly(1L);
+    }
+}
@@ -1,9 +1,9 @@
 package nextstep.qna.service;
 
 import nextstep.qna.CannotDeleteException;
+import nextstep.qna.NotFoundException;
 import nextstep.qna.domain.*;
 import nextstep.users.domain.NsUserTest;
-import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -11,17 +11,21 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 public class QnaServiceTest {
+    private static final long QUESTION_ID = 1L;
+
     @Mock
     private QuestionRepository questionRepository;
 
@@ -31,60 +35,82 @@ public class QnaServiceTest {
     @InjectMocks
     private QnAService qnAService;
 
-    private Question question;
-    private Answer answer;
+    @Test
+    public void delete_성공() throws Exception {
+        when(questionRepository.findDeletion(QUESTION_ID, NsUserTest.JAVAJIGI))
+                .thenReturn(Optional.of(new QuestionDeletion(QUESTION_ID, NsUserTest.JAVAJIGI, false)));
+
+        when(questionRepository.deleteWithAnswers(QUESTION_ID, NsUserTest.JAVAJIGI)).thenReturn(3);
+
+        qnAService.deleteQuestion(NsUserTest.JAVAJIGI, QUESTION_ID);
 
-    @BeforeEach
-    public void setUp() throws Exception {
-        question = new Question(1L, NsUserTest.JAVAJIGI, "title1", "contents1");
-        answer = new Answer(11L, NsUserTest.JAVAJIGI, QuestionTest.Q1, "Answers Contents1");
-        question.addAnswer(answer);
+        verify(deleteHistoryService).saveAllByQuestion(QUESTION_ID);
+        verify(questionRepository).deleteWithAnswers(QUESTION_ID, NsUserTest.JAVAJIGI);
     }
 
     @Test
-    public void delete_성공() throws Exception {
-        when(questionRepository.findById(question.getId())).thenReturn(Optional.of(question));
-
-        assertThat(question.isDeleted()).isFalse();
-        qnAService.deleteQuestion(NsUserTest.JAVAJIGI, question.getId());
+    public void delete_검증_후_다른_사람이_답변() throws Exception {
+        when(questionRepository.findDeletion(QUESTION_ID, NsUserTest.JAVAJIGI))
+                .thenReturn(Optional.of(new QuestionDeletion(QUESTION_ID, NsUserTest.JAVAJIGI, false)));
+        when(questionRepository.deleteWithAnswers(QUESTION_ID, NsUserTest.JAVAJIGI)).thenReturn(0);
 
-        assertThat(question.isDeleted()).isTrue();
-        verifyDeleteHistories();
+        assertThatThrownBy(() -> {
+            qnAService.deleteQuestion(NsUserTest.JAVAJIGI, QUESTION_ID);
+        }).isInstanceOf(CannotDeleteException.class)
+                .hasMessage("다른 사람이 쓴 답변이 있어 삭제할 수 없습니다.");
     }
 
     @Test
     public void delete_다른_사람이_쓴_글() throws Exception {
-        when(questionRepository.findById(question.getId())).thenReturn(Optional.of(question));
+        when(questionRepository.findDeletion(QUESTION_ID, NsUserTest.SANJIGI))
+                .thenReturn(Optional.of(new QuestionDeletion(QUESTION_ID, NsUserTest.JAVAJIGI, true)));
 
         assertThatThrownBy(() -> {
-            qnAService.deleteQuestion(NsUserTest.SANJIGI, question.getId());
-        }).isInstanceOf(CannotDeleteException.class);
+            qnAService.deleteQuestion(NsUserTest.SANJIGI, QUESTION_ID);
+        }).isInstanceOf(CannotDeleteException.class)
+                .hasMessage("질문을 삭제할 권한이 없습니다.");
+        verifyNotDeleted();
     }
 
     @Test
-    public void delete_성공_질문자_답변자_같음() throws Exception {
-        when(questionRepository.findById(question.getId())).thenReturn(Optional.of(question));
-
-        qnAService.deleteQuestion(NsUserTest.JAVAJIGI, question.getId());
+    public void delete_답변_중_다른_사람이_쓴_글() throws Exception {
+        when(questionRepository.findDeletion(QUESTION_ID, NsUserTest.JAVAJIGI))
+                .thenReturn(Optional.of(new QuestionDeletion(QUESTION_ID, NsUserTest.JAVAJIGI, true)));
 
-        assertThat(question.isDeleted()).isTrue();
-        assertThat(answer.isDeleted()).isTrue();
-        verifyDeleteHistories();
+        assertThatThrownBy(() -> {
+            qnAService.deleteQuestion(NsUserTest.JAVAJIGI, QUESTION_ID);
+        }).isInstanceOf(CannotDeleteException.class)
+                .hasMessage("다른 사람이 쓴 답변이 있어 삭제할 수 없습니다.");
+        verifyNotDeleted();
     }
 
     @Test
-    public void delete_답변_중_다른_사람이_쓴_글() throws Exception {
-        when(questionRepository.findById(question.getId())).thenReturn(Optional.of(question));
+    public void delete_없는_질문() {
+        when(questionRepository.findDeletion(QUESTION_ID, NsUserTest.JAVAJIGI)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> {
-            qnAService.deleteQuestion(NsUserTest.SANJIGI, question.getId());
-        }).isInstanceOf(CannotDeleteException.class);
+            qnAService.deleteQuestion(NsUserTest.JAVAJIGI, QUESTION_ID);
+        }).isInstanceOf(NotFoundException.class);
+        verifyNotDeleted();
+    }
+
+    @Test
+    public void findQuestions() {
+        QuestionCursor cursor = new QuestionCursor(LocalDateTime.of(2024, 10, 10, 10, 10), 2L);
+        List<QuestionSummary> summaries = List.of(new QuestionSummary(1L, "title1", "javajigi", "name", 2, LocalDateTime.of(2024, 10, 10, 10, 9)));
+        when(questionRepository.findSummaries(cursor, 20)).thenReturn(summaries);
+
+        assertThat(qnAService.findQuestions(cursor, 20)).isEqualTo(summaries);
+    }
+
+    @Test
+    public void findQuestions_페이지_크기_초과() {
+        assertThatThrownBy(() -> qnAService.findQuestions(null, 101))
+                .isInstanceOf(IllegalArgumentException.class);
     }
 
-    private void verifyDeleteHistories() {
-        List<DeleteHistory> deleteHistories = Arrays.asList(
-                new DeleteHistory(ContentType.QUESTION, question.getId(), question.getWriter(), LocalDateTime.now()),
-                new DeleteHistory(ContentType.ANSWER, answer.getId(), answer.getWriter(), LocalDateTime.now()));
-        verify(deleteHistoryService).saveAll(deleteHistories);
+    private void verifyNotDeleted() {
+        verify(deleteHistoryService, never()).saveAllByQuestion(anyLong());
+        verify(questionRepository, never()).deleteWithAnswers(anyLong(), any());
     }
 }
@@ -34,4 +34,11 @@ public class UserRepositoryTest {
         assertThat(nsUser.isEmpty()).isFalse();
         LOGGER.debug("NsUser: {}", nsUser.get());
     }
+
+    @Test
+    void findByUserIdUsesIndex() {
+        String plan = jdbcTemplate.queryForObject("explain " + JdbcUserRepository.FIND_BY_USER_ID, String.class, "javajigi");
+
+        assertThat(plan).doesNotContain("tableScan");
+    }
 }